@@ -0,0 +1,74 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+
+/**
+ * 콩 상태 갱신 경로 측정.
+ * <ul>
+ *   <li>applyActionResult: 미리 뽑아 둔 결과 적용 (감정 변화 + 특수 상태 감시)</li>
+ *   <li>checkSpecialConditions: 성격별 이벤트 감시만 단독 실행</li>
+ *   <li>oneTurn: 행동 결과 추첨부터 적용까지 한 턴 전체</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanBenchmark {
+
+    @Param({"kind", "lazy", "snappy"})
+    public String personality;
+
+    private Beans bean;
+    private ActionResult[] results;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        bean = BenchSupport.quietBean(personality, BenchSupport.SEED);
+
+        // 모든 행동의 결과를 미리 뽑아 두고 돌아가며 적용
+        Action[] actions = Action.values();
+        results = new ActionResult[actions.length * 4];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = bean.act(actions[i % actions.length]);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public int applyActionResult() {
+        int i = next;
+        next = (i + 1) % results.length;
+        Action action = Action.values()[i % Action.values().length];
+
+        bean.applyActionResult(results[i], action.getKey());
+        BenchSupport.revive(bean);
+        return bean.getEnergy();
+    }
+
+    @Benchmark
+    public int checkSpecialConditions() {
+        ((BenchSupport.Checkable) bean).check();
+        BenchSupport.revive(bean);
+        return bean.getEnergy();
+    }
+
+    @Benchmark
+    public int oneTurn() {
+        Action action = Action.values()[next];
+        next = (next + 1) % Action.values().length;
+
+        bean.applyActionResult(bean.act(action), action.getKey());
+        BenchSupport.revive(bean);
+        return bean.getEnergy();
+    }
+}
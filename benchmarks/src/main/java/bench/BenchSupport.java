@@ -0,0 +1,44 @@
+package bench;
+
+import java.util.SplittableRandom;
+
+import core.Beans;
+import core.Personality;
+import core.PersonalityRegistry;
+import growBeans.PersonalityBean;
+
+/**
+ * 벤치마크 공용 도우미.
+ * <p>콘솔 출력과 이벤트 출력을 끈 콩을 만들어, 측정값에 입출력 비용이 섞이지 않도록 합니다.</p>
+ */
+final class BenchSupport {
+
+    static final long SEED = 42L;
+
+    private BenchSupport() {}
+
+    /** 성격 이름(kind/lazy/snappy)으로 출력이 꺼진 콩 생성 */
+    static Beans quietBean(String personality, long seed) {
+        Beans bean = new Quiet("벤치콩", PersonalityRegistry.require(personality));
+        bean.setMessageSink(null);
+        bean.setEventHandler(event -> {});
+        bean.setRandom(new SplittableRandom(seed));
+        return bean;
+    }
+
+    /** 기절한 콩은 행동이 무시되므로, 측정 경로가 바뀌지 않도록 에너지를 되돌림 */
+    static void revive(Beans bean) {
+        if (bean.getEnergy() == 0) bean.changeEnergy(100);
+    }
+
+    /** checkSpecialConditions 를 직접 호출할 수 있는 성격별 하위 클래스 */
+    interface Checkable {
+        void check();
+    }
+
+    /** 성격과 관계없이 하나의 클래스 (실제 게임과 같은 단일 구현 경로) */
+    static final class Quiet extends PersonalityBean implements Checkable {
+        Quiet(String name, Personality personality) { super(name, personality); }
+        @Override public void check() { checkSpecialConditions(); }
+    }
+}
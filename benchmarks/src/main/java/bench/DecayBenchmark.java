@@ -0,0 +1,42 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import game.DecayProfile;
+import simulation.BeanPopulation;
+import simulation.NightlyDecay;
+
+/**
+ * 콩 N마리에게 하루 끝 감정 변화를 한꺼번에 적용하는 비용 측정.
+ * <p>포크된 JVM 에 {@code jdk.incubator.vector} 모듈을 추가하므로 Vector API 구현이 측정되며,
+ * {@code -jvmArgsAppend -Dgrowbean.vector=false} 를 주면 스칼라 구현과 비교할 수 있습니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class DecayBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int beans;
+
+    private BeanPopulation population;
+    private int[][] table;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        population = BeanPopulation.mixed(beans);
+        table = DecayProfile.table();
+        System.out.println("감소 계산: " + NightlyDecay.kernelName());
+    }
+
+    @Benchmark
+    public BeanPopulation nightlyDecay() {
+        NightlyDecay.apply(population, 0, population.size(), table);
+        return population;
+    }
+}
@@ -0,0 +1,41 @@
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import core.Action;
+import core.ActionResult;
+import core.DialogLoader;
+
+/**
+ * 캐시된 대사 테이블에서 행동 결과 하나를 뽑는 비용 측정 (CSV 로딩 제외).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogLoaderBenchmark {
+
+    @Param({"kind.csv", "lazy.csv", "snappy.csv"})
+    public String fileName;
+
+    @Param({"EAT", "GO_OUT"})
+    public Action action;
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(BenchSupport.SEED);
+        DialogLoader.getTable(fileName); // 최초 로드는 측정에서 제외
+    }
+
+    @Benchmark
+    public ActionResult getFromCsv() {
+        return DialogLoader.getFromCsv(fileName, action, "벤치콩", random);
+    }
+}
@@ -0,0 +1,53 @@
+package bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import output.AsyncSink;
+import output.ConsoleSink;
+import output.OutputMessage;
+import output.OutputSink;
+
+/**
+ * 행동 결과 한 건을 출력 대상에 내보내는 비용 측정 (실제 화면 출력은 버림).
+ * 여러 스레드가 동시에 내보낼 때 PrintStream 잠금 경합을 보려면 {@code -t 4} 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputBenchmark {
+
+    @Param({"console", "async", "null"})
+    public String sinkType;
+
+    private OutputSink sink;
+
+    private final OutputMessage message = OutputMessage.of(OutputMessage.Kind.LINE,
+            "[2025년 01월 01일 12시 00분]\n콩이(가) 정성껏 식사를 준비한다.\n콩은(는) 따뜻한 마음으로 식사를 마쳤다.\n허기 -17, 행복 +12");
+
+    @Setup
+    public void setup() {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream(), true);
+        switch (sinkType) {
+            case "console": sink = new ConsoleSink(discard, discard, true); break;
+            case "async":   sink = new AsyncSink(new ConsoleSink(discard, discard, false), 4096); break;
+            default:        sink = OutputSink.NULL;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sink.close();
+    }
+
+    @Benchmark
+    public void emit() {
+        sink.emit(message);
+    }
+}
@@ -0,0 +1,97 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import core.Action;
+import core.Beans;
+import game.FarmManager;
+import game.Farmer;
+import save.FarmSaveStore;
+import save.SaveCodec;
+import save.SaveData;
+
+/**
+ * 바이너리 세이브 형식의 저장/불러오기 비용 측정 (파일 입출력 제외),
+ * 그리고 서버가 매 턴 하는 메모리 매핑 저장소({@link FarmSaveStore})의 슬롯 저장 비용.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+    private SaveData data;
+    private byte[] encoded;
+
+    private Path storeFile;
+    private FarmSaveStore store;
+    private SaveData[] turns;
+    private int turn;
+
+    @Setup
+    public void setup() throws IOException {
+        Beans bean = BenchSupport.quietBean("kind", BenchSupport.SEED);
+        for (Action action : Action.values()) {
+            bean.applyActionResult(bean.act(action), action.getKey());
+        }
+        data = new SaveData(new Farmer("벤치농부", bean), 3, 12);
+        encoded = SaveCodec.encode(data);
+
+        // 한 농장의 연속된 턴 (턴마다 일부 바이트만 바뀜)
+        storeFile = Files.createTempFile("growbean-bench", ".store");
+        Files.delete(storeFile);
+        store = FarmSaveStore.open(storeFile);
+        turns = new SaveData[64];
+        Beans played = BenchSupport.quietBean("kind", BenchSupport.SEED);
+        Farmer farmer = new Farmer("벤치농부", played);
+        Action[] actions = Action.values();
+        for (int t = 0; t < turns.length; t++) {
+            Action action = actions[t % actions.length];
+            played.applyActionResult(played.act(action), action.getKey());
+            turns[t] = new SaveData(new Farmer(farmer.getName(), snapshot(played)), 1 + t / 5, t + 1);
+        }
+    }
+
+    /** 콩 상태의 복사본 (턴마다 다른 저장 데이터를 미리 만들어 두기 위함) */
+    private static Beans snapshot(Beans bean) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bean.writeState(new DataOutputStream(bytes));
+        Beans copy = FarmManager.createBean(FarmManager.beanType(bean), bean.getName());
+        copy.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        return copy;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(storeFile);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return SaveCodec.encode(data);
+    }
+
+    @Benchmark
+    public SaveData decode() throws IOException {
+        return SaveCodec.decode(encoded);
+    }
+
+    /** 같은 농부의 다음 턴 상태를 저장소 슬롯에 기록 (바뀐 바이트만, 디스크 반영 제외) */
+    @Benchmark
+    public void storeSave() throws IOException {
+        store.save(turns[turn]);
+        turn = (turn + 1) % turns.length;
+    }
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import core.Beans;
+import simulation.ActionPolicy;
+import simulation.SimulationEngine;
+import simulation.SimulationResult;
+
+/**
+ * 콩 N마리의 하루(턴 5회 + 하루 마감)를 시뮬레이션하는 비용 측정.
+ * <p>호출마다 무리를 처음 상태로 되돌리고 다시 시드를 지정하므로, 매번 같은 첫날이 시뮬레이션됩니다.
+ * (이어서 진행하면 날이 갈수록 기절한 콩이 늘어 측정 경로가 바뀜)</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int beans;
+
+    private final SimulationEngine oneDay = new SimulationEngine(1);
+    private final ActionPolicy policy = ActionPolicy.random();
+    private List<Beans> population;
+    private byte[] initial;   // 처음 상태 (콩마다 Beans.STATE_BYTES)
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        population = SimulationEngine.mixedPopulation(beans);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(beans * Beans.STATE_BYTES);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Beans bean : population) bean.writeState(out);
+        initial = bytes.toByteArray();
+    }
+
+    /** 새로 만들지 않고 상태만 되돌려, 측정 구간에 대량 할당의 GC 가 섞이지 않게 함 */
+    @Setup(Level.Invocation)
+    public void reset() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(initial));
+        for (Beans bean : population) bean.readState(in);
+        SimulationEngine.seed(population, BenchSupport.SEED);
+    }
+
+    @Benchmark
+    public SimulationResult oneDay() {
+        return oneDay.run(population, policy);
+    }
+}
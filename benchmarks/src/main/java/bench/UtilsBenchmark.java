@@ -0,0 +1,76 @@
+package bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import core.DialogTable;
+import core.Emotion;
+import utils.CsvReader;
+import utils.Utils;
+
+/**
+ * CSV 분리, 대사 파일 로딩, 감정 변화 문자열 파싱 비용 측정.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+
+    private final String line = "eat,{name}이(가) 정성껏 식사를 준비한다.,{name}은(는) 따뜻한 마음으로 식사를 마쳤다.,"
+            + "{name}은(는) 너무 피곤해서 식사를 거르기로 했다.,0.6,"
+            + "HUNGER:-20~-15|HAPPY:+10~+15|TRUST:+5~+10,HUNGER:-5~-2|MOTIVATION:-5~-2";
+
+    private final String changes = "HUNGER:-20~-15|HAPPY:+10~+15|TRUST:+5~+10";
+
+    /** 대사 팩 크기를 흉내 내기 위해 lazy.csv 본문을 여러 번 이어 붙인 바이트 */
+    private byte[] pack;
+    private byte[] scratch;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] csv;
+        try (InputStream in = UtilsBenchmark.class.getResourceAsStream("/lazy.csv")) {
+            csv = in.readAllBytes();
+        }
+        int copies = 100;
+        pack = new byte[csv.length * copies];
+        for (int i = 0; i < copies; i++) System.arraycopy(csv, 0, pack, i * csv.length, csv.length);
+        scratch = new byte[pack.length];
+    }
+
+    /** 필드 조각만 훑음 (문자열 생성 없음) */
+    @Benchmark
+    public void tokenizePack(Blackhole bh) {
+        System.arraycopy(pack, 0, scratch, 0, pack.length); // 따옴표 정리가 제자리에서 일어나므로 원본 보존
+        CsvReader.parse(scratch, scratch.length, true, new CsvReader.Visitor() {
+            @Override
+            public void field(int column, byte[] data, int offset, int length) { bh.consume(length); }
+
+            @Override
+            public void endRow(int columns) { bh.consume(columns); }
+        });
+    }
+
+    @Benchmark
+    public DialogTable loadDialogTable() {
+        return DialogTable.load("lazy.csv");
+    }
+
+    @Benchmark
+    public String[] parseLine() {
+        return Utils.parseLine(line);
+    }
+
+    @Benchmark
+    public Map<Emotion, Integer> parseEmotionChanges() {
+        return Utils.parseEmotionChanges(changes);
+    }
+}
@@ -0,0 +1,43 @@
+package core;
+
+/**
+ * 콩에게 내릴 수 있는 행동의 종류를 정의하는 enum 입니다.
+ * <p>각 행동은 CSV의 action 컬럼 값(key)과 화면에 표시할 이름을 가집니다.</p>
+ */
+public enum Action {
+    EAT("eat", "먹이 주기"),
+    REST("rest", "휴식"),
+    PLAY("play", "놀기"),
+    HEAL("heal", "치료"),
+    GO_OUT("goOut", "외출"),
+    WORK("work", "일하기");
+
+    private static final Action[] VALUES = values();
+
+    private final String key;
+    private final String displayName;
+
+    Action(String key, String displayName) {
+        this.key = key;
+        this.displayName = displayName;
+    }
+
+    /** CSV에서 사용하는 행동 이름 (예: "eat") */
+    public String getKey() { return key; }
+
+    /** 화면 표시용 이름 (예: "먹이 주기") */
+    public String getDisplayName() { return displayName; }
+
+    /**
+     * CSV의 action 값으로 행동을 찾습니다.
+     *
+     * @param key 행동 이름 (예: "goOut")
+     * @return 일치하는 행동, 없으면 null
+     */
+    public static Action fromKey(String key) {
+        for (Action a : VALUES) {
+            if (a.key.equals(key)) return a;
+        }
+        return null;
+    }
+}
@@ -1,20 +1,30 @@
 package core;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * 콩(Bean)의 한 번의 행동 결과를 저장하고 표현하는 데이터 객체
+ * <p>대사 행({@link DialogEntry})에서 만든 결과는 행 참조와 성공 여부만 들고 있다가,
+ * {@link #formatForDisplay()} 등으로 실제 문장이 필요할 때 처음 조립합니다.
+ * 출력하지 않는 헤드리스 시뮬레이션에서는 문자열이 전혀 만들어지지 않습니다.</p>
  */
 public class ActionResult {
 
-    private LocalDateTime timestamp;
-    private String subject;
-    private String actionDescription;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
+
+    private final long timestamp;         // epoch 밀리초
+    private final String subject;
+    private final DialogEntry entry;      // 대사 행 (직접 만든 결과면 null)
+    private String actionDescription;     // 처음 요청될 때 entry 로부터 조립
     private String resultMessage;
-    private Map<Emotion, Integer> emotionChanges;
-    private boolean success;
+    private final int[] emotionDeltas;    // Emotion ordinal 기준 변화량
+    private final boolean success;
 
     /**
      * {@code ActionResult} 객체를 생성합니다.
@@ -27,30 +37,77 @@ public class ActionResult {
      */
     public ActionResult(String subject, String actionDescription,
                         String resultMessage, Map<Emotion, Integer> emotionChanges, boolean success) {
-        this.timestamp = LocalDateTime.now();
-        this.subject = subject;
+        this(subject, actionDescription, resultMessage, toDeltas(emotionChanges), success);
+    }
+
+    /**
+     * {@code ActionResult} 객체를 생성합니다.
+     *
+     * @param subject           행동의 주체
+     * @param actionDescription 행동 설명 문자열
+     * @param resultMessage     행동의 결과 메시지
+     * @param emotionDeltas     Emotion ordinal 을 인덱스로 하는 감정 변화량 배열
+     * @param success           성공 여부
+     */
+    public ActionResult(String subject, String actionDescription,
+                        String resultMessage, int[] emotionDeltas, boolean success) {
+        this(subject, null, emotionDeltas, success);
         this.actionDescription = actionDescription;
         this.resultMessage = resultMessage;
-        this.emotionChanges = emotionChanges;
+    }
+
+    /**
+     * 대사 행을 참조하는 {@code ActionResult} 객체를 생성합니다. 문장은 필요할 때 조립됩니다.
+     *
+     * @param subject       행동의 주체 (대사의 {name} 에 들어갈 이름)
+     * @param entry         뽑힌 대사 행
+     * @param emotionDeltas Emotion ordinal 을 인덱스로 하는 감정 변화량 배열
+     * @param success       성공 여부
+     */
+    public ActionResult(String subject, DialogEntry entry, int[] emotionDeltas, boolean success) {
+        this.timestamp = System.currentTimeMillis();
+        this.subject = subject;
+        this.entry = entry;
+        this.emotionDeltas = emotionDeltas;
         this.success = success;
     }
 
+    /** Map 형태의 감정 변화를 ordinal 배열로 변환 */
+    private static int[] toDeltas(Map<Emotion, Integer> emotionChanges) {
+        int[] deltas = new int[Emotion.COUNT];
+        for (Map.Entry<Emotion, Integer> entry : emotionChanges.entrySet()) {
+            deltas[entry.getKey().ordinal()] = entry.getValue();
+        }
+        return deltas;
+    }
+
     /**
-     * 감정 변화 맵을 반환.
+     * 특정 감정의 변화량을 반환 (변화가 없으면 0).
+     */
+    public int getEmotionDelta(Emotion emotion) {
+        return emotionDeltas[emotion.ordinal()];
+    }
+
+    /**
+     * 감정 변화 맵을 반환 (변화량이 0인 감정은 제외된 읽기 전용 맵).
      */
     public Map<Emotion, Integer> getEmotionChanges() {
-        return emotionChanges;
+        Map<Emotion, Integer> map = new EnumMap<>(Emotion.class);
+        for (int i = 0; i < emotionDeltas.length; i++) {
+            if (emotionDeltas[i] != 0) map.put(Emotion.byOrdinal(i), emotionDeltas[i]);
+        }
+        return Collections.unmodifiableMap(map);
     }
 
     /**
      * 행동 결과를 사람이 읽기 좋은 문자열 형태로 반환
      */
     public String formatForDisplay() {
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
         StringBuilder sb = new StringBuilder();
-        sb.append("[").append(timestamp.format(fmt)).append("]\n");
-        sb.append(actionDescription).append("\n");
-        sb.append(resultMessage).append("\n");
+        sb.append("[").append(time.format(TIMESTAMP_FORMAT)).append("]\n");
+        sb.append(getActionDescription()).append("\n");
+        sb.append(getResultMessage()).append("\n");
         sb.append(formatEmotionChanges());
         return sb.toString();
     }
@@ -61,17 +118,48 @@ public class ActionResult {
      */
     private String formatEmotionChanges() {
         StringBuilder sb = new StringBuilder();
-        for (var entry : emotionChanges.entrySet()) {
-            int delta = entry.getValue();
+        for (int i = 0; i < emotionDeltas.length; i++) {
+            int delta = emotionDeltas[i];
             if (delta != 0) {
                 String sign = delta > 0 ? "+" : "";
-                sb.append(entry.getKey()).append(" ").append(sign).append(delta).append(", ");
+                sb.append(Emotion.byOrdinal(i)).append(" ").append(sign).append(delta).append(", ");
             }
         }
         if (sb.length() > 2) sb.setLength(sb.length() - 2);
         return sb.toString();
     }
 
+    /**
+     * 행동 설명 문장을 반환 (처음 호출 시 조립)
+     */
+    public String getActionDescription() {
+        if (actionDescription == null) {
+            actionDescription = (entry == null) ? "" : entry.getActionMessage().render(subject);
+        }
+        return actionDescription;
+    }
+
+    /**
+     * 성공/실패 결과 문장을 반환 (처음 호출 시 조립)
+     */
+    public String getResultMessage() {
+        if (resultMessage == null) {
+            resultMessage = (entry == null) ? ""
+                    : (success ? entry.getSuccessMessage() : entry.getFailMessage()).render(subject);
+        }
+        return resultMessage;
+    }
+
+    /**
+     * 결과를 만든 대사 행 (직접 만든 결과면 null)
+     */
+    public DialogEntry getEntry() { return entry; }
+
+    /**
+     * 결과가 만들어진 시각 (epoch 밀리초)
+     */
+    public long getTimestamp() { return timestamp; }
+
     /**
      * 행동의 주체를 반환
      */
@@ -1,10 +1,22 @@
 package core;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 import exceptions.*;
+import metrics.Metrics;
+import metrics.RuleCheckEvent;
+import output.Output;
+import utils.Utils;
 
 /**
  * Beans (콩의 추상 클래스)
@@ -21,7 +33,7 @@ public abstract class Beans implements Behavior, Serializable {
     // ==============================
     protected String name;
     protected int energy;
-    protected Map<Emotion, Integer> emotions;
+    protected EmotionState emotions;
 
     protected String lastAction = "";
     protected int actionsCount = 0; 
@@ -30,23 +42,36 @@ public abstract class Beans implements Behavior, Serializable {
     // 이벤트 핸들러 (DIP 적용)
     private transient Consumer<BeanEvents> eventHandler = ExceptionHandler::handle;
 
+    // 메시지 출력 대상 (헤드리스 시뮬레이션에서는 교체)
+    private transient Consumer<String> messageSink = Output::line;
+
+    // 행동 결과 추첨에 쓰는 난수 생성기 (시뮬레이션에서는 콩마다 시드 고정)
+    private transient RandomGenerator random = Utils.defaultRandom();
+
+    // 특수 상태 규칙과 그 적용에 쓰는 변수 배열 (처음 검사할 때 만들어 두고 재사용)
+    private transient RuleTable.Context rules;
+
     // ==============================
     // 생성자
     // ==============================
     public Beans(String name) {
         this.name = name;
         this.energy = 100;
-        this.emotions = new EnumMap<>(Emotion.class);
-        initEmotions();
+        this.emotions = new EmotionState();
     }
 
     // ==============================
-    // 초기화
+    // 행동 (CSV 대사)
     // ==============================
-    private void initEmotions() {
-        for (Emotion e : Emotion.values()) {
-            emotions.put(e, 50);
-        }
+
+    /** 성격별 CSV 에서 이 콩의 난수 생성기로 행동 결과를 뽑음 */
+    protected ActionResult dialog(String fileName, Action action) {
+        return DialogLoader.getFromCsv(fileName, action, name, random);
+    }
+
+    /** 미리 받아 둔 대사 핸들에서 이 콩의 난수 생성기로 행동 결과를 뽑음 (파일 이름 조회 없음) */
+    protected ActionResult dialog(DialogHandle handle, Action action) {
+        return DialogLoader.draw(handle.table(), action, name, random);
     }
 
     // ==============================
@@ -55,9 +80,7 @@ public abstract class Beans implements Behavior, Serializable {
 
     /** 감정 수치 변경 (0~100 범위 제한) */
     public void changeEmotion(Emotion emotion, int delta) {
-        int current = emotions.getOrDefault(emotion, 50);
-        int next = Math.max(0, Math.min(100, current + delta));
-        emotions.put(emotion, next);
+        emotions.change(emotion, delta);
     }
 
     /** 에너지 수치 변경 (0~100 사이로 유지, 이벤트 발생) */
@@ -69,25 +92,12 @@ public abstract class Beans implements Behavior, Serializable {
             energy = 100;
         } else if (after < 0) {
             energy = 0;
-            throw BeanEvents.energyDepleted(after);
+            fire(BeanEvents.energyDepleted());
         } else {
             energy = after;
         }
     }
 
-    /** 전체 상태값을 0~100 사이로 보정 */
-    private void clampStats() {
-        if (energy > 100) energy = 100;
-        if (energy < 0) energy = 0;
-
-        for (Emotion e : emotions.keySet()) {
-            int val = emotions.get(e);
-            if (val > 100) val = 100;
-            if (val < 0) val = 0;
-            emotions.put(e, val);
-        }
-    }
-
     // ==============================
     // 행동 결과 처리
     // ==============================
@@ -96,7 +106,7 @@ public abstract class Beans implements Behavior, Serializable {
 
         // 행동 불가 조건
         if (energy == 0 && !"heal".equalsIgnoreCase(actionName)) {
-            System.out.println(name + "은(는) 기절해서 아무 행동도 할 수 없습니다... 치료가 필요합니다.\n");
+            say(name + "은(는) 기절해서 아무 행동도 할 수 없습니다... 치료가 필요합니다.\n");
             return;
         }
 
@@ -104,26 +114,24 @@ public abstract class Beans implements Behavior, Serializable {
         lastAction = actionName;
 
         // 감정 변화 적용
-        for (Map.Entry<Emotion, Integer> entry : result.getEmotionChanges().entrySet()) {
-            changeEmotion(entry.getKey(), entry.getValue());
+        for (int i = 0; i < Emotion.COUNT; i++) {
+            Emotion emotion = Emotion.byOrdinal(i);
+            int delta = result.getEmotionDelta(emotion);
+            if (delta != 0) changeEmotion(emotion, delta);
         }
 
         // 치료 행동
         if ("heal".equalsIgnoreCase(actionName)) {
             int recovery = result.isSuccess() ? 50 : 30;
-            try {
-                changeEnergy(recovery);
-                recentlyHealed = true;
-                System.out.println(name + "의 체력이 " + recovery + " 회복되었습니다!");
-            } catch (BeanEvents e) {
-                eventHandler.accept(e);
-            }
+            changeEnergy(recovery);
+            recentlyHealed = true;
+            say(name + "의 체력이 " + recovery + " 회복되었습니다!");
         } else {
             recentlyHealed = false;
         }
 
-        // 결과 출력
-        System.out.println(result.formatForDisplay() + "\n");
+        // 결과 출력 (출력 대상이 없으면 문장을 만들지 않음)
+        if (messageSink != null) say(result.formatForDisplay() + "\n");
 
         // 상태 감시
         checkSpecialConditions();
@@ -132,51 +140,39 @@ public abstract class Beans implements Behavior, Serializable {
     // ==============================
     // 특수 상태 감시 (이벤트)
     // ==============================
+    /**
+     * 행동 후 상태를 확인하여 조건에 맞는 이벤트를 모두 발생시킵니다.
+     * 규칙은 rules.csv 의 공통 규칙과 {@link #getRuleScope()} 성격의 규칙이며({@link RuleBook}),
+     * 이벤트는 던지지 않고 리스너로 바로 전달되므로 한 턴에 여러 이벤트가 함께 발생할 수 있습니다.
+     */
     protected void checkSpecialConditions() {
-        try {
-            if (energy <= 0) throw BeanEvents.beanFainted();
-
-            int trust = emotions.getOrDefault(Emotion.TRUST, 50);
-            int happy = emotions.getOrDefault(Emotion.HAPPY, 50);
-            int sad = emotions.getOrDefault(Emotion.SAD, 50);
-            int fear = emotions.getOrDefault(Emotion.FEAR, 50);
-            int anger = emotions.getOrDefault(Emotion.ANGER, 50);
-            int stress = emotions.getOrDefault(Emotion.STRESS, 50);
-
-            if (trust <= 10) { changeEmotion(Emotion.HAPPY, -10); changeEnergy(-15); throw BeanEvents.beanRanAway(); }
-            if (happy <= 0 || sad >= 100) { changeEmotion(Emotion.MOTIVATION, -10); throw BeanEvents.beanDepressed(); }
-            if (fear >= 100) { changeEmotion(Emotion.HUNGER, -15); throw BeanEvents.beanNauseous(); }
-            if (anger >= 90) { changeEnergy(-10); throw BeanEvents.beanAngry(); }
-            if ("rest".equalsIgnoreCase(lastAction) && stress >= 80) { changeEmotion(Emotion.STRESS, +5); throw BeanEvents.beanInsomnia(); }
-            if (trust >= 100) { changeEmotion(Emotion.HAPPY, +10); throw BeanEvents.beanLoveful(); }
-
-            // 평균 기반 무기력
-            int total = 0, count = 0;
-            for (int value : emotions.values()) { total += value; count++; }
-            double avg = (count > 0) ? (double) total / count : 50.0;
-            if (avg <= 20) { changeEmotion(Emotion.MOTIVATION, -5); throw BeanEvents.beanExhausted(); }
-
-            // 성장 / 병듦
-            if (actionsCount > 0 && actionsCount % 10 == 0) { changeEnergy(+5); changeEmotion(Emotion.MOTIVATION, +5); throw BeanEvents.beanGrowth(); }
-            if (energy < 20 && !recentlyHealed) { changeEmotion(Emotion.STRESS, +10); throw BeanEvents.beanSick(); }
-
-        } catch (BeanEvents e) {
-            eventHandler.accept(e);
-        } finally {
-            clampStats(); // 항상 범위 보정
-        }
+        if (rules == null) rules = RuleBook.get(getRuleScope()).context(this);
+        RuleCheckEvent event = new RuleCheckEvent();
+        event.begin();
+        rules.apply();
+        event.finish(getRuleScope(), name, energy);
     }
 
+    /** rules.csv 에서 이 콩에 적용할 성격 규칙의 범위 이름 (null 이면 공통 규칙만) */
+    protected String getRuleScope() { return null; }
+
     // ==============================
     // 출력 (상태 표시)
     // ==============================
     public void showStatus() {
-        System.out.println("=== " + name + "의 현재 상태 ===");
-        System.out.println("에너지: " + energy);
-        for (var e : emotions.entrySet()) {
-            System.out.printf("%-10s : %d%n", e.getKey(), e.getValue());
+        Output.line(statusText());
+    }
+
+    /** 상태 표시 문자열 (콘솔 외의 출력 대상용) */
+    public String statusText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== ").append(name).append("의 현재 상태 ===\n");
+        sb.append("에너지: ").append(energy).append('\n');
+        for (int i = 0; i < Emotion.COUNT; i++) {
+            sb.append(String.format("%-10s : %d%n", Emotion.byOrdinal(i), emotions.get(i)));
         }
-        System.out.println("============================\n");
+        sb.append("============================\n");
+        return sb.toString();
     }
 
     // ==============================
@@ -186,12 +182,179 @@ public abstract class Beans implements Behavior, Serializable {
         this.eventHandler = handler;
     }
 
+    /** 현재 이벤트 핸들러 (잠시 바꿨다가 되돌릴 때 사용) */
+    public Consumer<BeanEvents> getEventHandler() { return eventHandler; }
+
+    /** 기존 핸들러 뒤에 이벤트 리스너를 추가 (등록 시에만 조합하므로 이벤트 전달 시 추가 비용 없음) */
+    public void addEventListener(Consumer<BeanEvents> listener) {
+        this.eventHandler = eventHandler.andThen(listener);
+    }
+
+    /** 등록된 리스너로 이벤트 전달 */
+    protected void fire(BeanEvents event) {
+        Metrics.event(event.getType());
+        eventHandler.accept(event);
+    }
+
+    /** 행동/반응 메시지 출력 대상 지정 (null 이면 출력하지 않음, 헤드리스 시뮬레이션용) */
+    public void setMessageSink(Consumer<String> sink) {
+        this.messageSink = sink;
+    }
+
+    /** 현재 메시지 출력 대상 (없으면 null) */
+    public Consumer<String> getMessageSink() { return messageSink; }
+
+    /** 행동 결과 추첨에 쓸 난수 생성기 지정 */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** 행동 결과 추첨에 쓰는 난수 생성기 */
+    public RandomGenerator getRandom() { return random; }
+
+    /** 메시지 출력 대상이 있는지 (없으면 대사 문자열을 만들 필요가 없음) */
+    boolean hasMessageSink() { return messageSink != null; }
+
+    /** 메시지를 현재 출력 대상으로 보냄 */
+    protected void say(String message) {
+        if (messageSink != null) messageSink.accept(message);
+    }
+
+    // ==============================
+    // 바이너리 상태 저장 (고정 길이)
+    // ==============================
+
+    /** 바이너리 상태 크기 (에너지 1 + 감정 8 + 행동 횟수 4 + 치료 여부 1 + 마지막 행동 1) */
+    public static final int STATE_BYTES = 1 + Emotion.COUNT + 4 + 1 + 1;
+
+    /**
+     * 이름과 성격을 제외한 상태를 고정 길이({@value #STATE_BYTES} 바이트)로 기록합니다.
+     *
+     * @param out 기록 대상
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte(energy);
+        for (int i = 0; i < Emotion.COUNT; i++) out.writeByte(emotions.get(i));
+        out.writeInt(actionsCount);
+        out.writeBoolean(recentlyHealed);
+        Action last = Action.fromKey(lastAction);
+        out.writeByte(last == null ? -1 : last.ordinal());
+    }
+
+    /**
+     * {@link #writeState}로 기록한 상태를 읽어 현재 콩에 덮어씁니다.
+     *
+     * 값이 범위를 벗어나면 콩을 바꾸지 않고 예외를 던집니다.
+     *
+     * @param in 읽을 대상
+     * @throws StreamCorruptedException 에너지, 감정, 마지막 행동 값이 범위를 벗어났을 때
+     */
+    public void readState(DataInput in) throws IOException {
+        int savedEnergy = in.readByte();
+        if (savedEnergy < 0 || savedEnergy > 100) throw new StreamCorruptedException("에너지 값이 잘못되었습니다: " + savedEnergy);
+        byte[] savedEmotions = new byte[Emotion.COUNT];
+        in.readFully(savedEmotions);
+        for (byte value : savedEmotions) {
+            if (value < 0 || value > 100) throw new StreamCorruptedException("감정 값이 잘못되었습니다: " + value);
+        }
+        int savedCount = in.readInt();
+        boolean savedHealed = in.readBoolean();
+        int last = in.readByte();
+        if (last < -1 || last >= Action.values().length) throw new StreamCorruptedException("마지막 행동 값이 잘못되었습니다: " + last);
+
+        energy = savedEnergy;
+        for (int i = 0; i < Emotion.COUNT; i++) emotions.set(Emotion.byOrdinal(i), savedEmotions[i]);
+        actionsCount = savedCount;
+        recentlyHealed = savedHealed;
+        lastAction = (last < 0) ? "" : Action.values()[last].getKey();
+    }
+
+    /**
+     * 이름과 성격, 감정을 제외한 상태를 덮어씁니다. ({@link #readState}와 같은 내용을 스트림 없이, 열 저장소와 주고받는 용도)
+     *
+     * @param energy         에너지
+     * @param actionsCount   행동 횟수
+     * @param recentlyHealed 직전 행동이 치료였는지
+     * @param lastAction     마지막 행동 (없으면 null)
+     */
+    public void restoreState(int energy, int actionsCount, boolean recentlyHealed, Action lastAction) {
+        this.energy = energy;
+        this.actionsCount = actionsCount;
+        this.recentlyHealed = recentlyHealed;
+        this.lastAction = (lastAction == null) ? "" : lastAction.getKey();
+    }
+
+    /** 감정 수치 지정 (0~100 범위 제한) */
+    public void setEmotion(Emotion emotion, int value) {
+        emotions.set(emotion, value);
+    }
+
+    // ==============================
+    // 직렬화 (기존 save.dat 과 호환)
+    // ==============================
+
+    // 감정을 EmotionState 로 바꾸기 전과 같은 형태(emotions: Map)로 기록
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("name", String.class),
+            new ObjectStreamField("energy", int.class),
+            new ObjectStreamField("emotions", Map.class),
+            new ObjectStreamField("lastAction", String.class),
+            new ObjectStreamField("actionsCount", int.class),
+            new ObjectStreamField("recentlyHealed", boolean.class),
+    };
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("name", name);
+        fields.put("energy", energy);
+        fields.put("emotions", new EnumMap<>(emotions.asMap()));
+        fields.put("lastAction", lastAction);
+        fields.put("actionsCount", actionsCount);
+        fields.put("recentlyHealed", recentlyHealed);
+        out.writeFields();
+    }
+
+    /** 역직렬화 시 감정 Map 을 EmotionState 로 옮기고 transient 핸들러 복구 */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        name = (String) fields.get("name", null);
+        energy = fields.get("energy", 100);
+        lastAction = (String) fields.get("lastAction", "");
+        actionsCount = fields.get("actionsCount", 0);
+        recentlyHealed = fields.get("recentlyHealed", false);
+
+        emotions = new EmotionState();
+        Object saved = fields.get("emotions", null);
+        if (saved instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) saved).entrySet()) {
+                if (entry.getKey() instanceof Emotion && entry.getValue() instanceof Integer) {
+                    emotions.set((Emotion) entry.getKey(), (Integer) entry.getValue());
+                }
+            }
+        }
+
+        eventHandler = ExceptionHandler::handle;
+        messageSink = Output::line;
+        random = Utils.defaultRandom();
+    }
+
     // ==============================
     // Getter
     // ==============================
     public String getName() { return name; }
     public int getEnergy() { return energy; }
-    public Map<Emotion, Integer> getEmotions() { return emotions; }
+    public int getEmotion(Emotion emotion) { return emotions.get(emotion); }
+    public int getActionsCount() { return actionsCount; }
+    public boolean isRecentlyHealed() { return recentlyHealed; }
+
+    /** 마지막 행동 (없으면 null) */
+    public Action getLastAction() { return Action.fromKey(lastAction); }
+
+    /** 감정 수치의 읽기 전용 Map 뷰 (호환용) */
+    public Map<Emotion, Integer> getEmotions() { return emotions.asMap(); }
 
     public abstract String getPersonalityName();
+
+    /** 등록소의 성격 설명 (성격 등록소를 거치지 않는 콩은 null) */
+    public Personality getPersonality() { return null; }
 }
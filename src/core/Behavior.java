@@ -25,4 +25,22 @@ public interface Behavior {
 
     /** 일하기 */
     ActionResult work();
+
+    /**
+     * 행동 종류에 맞는 행동 메서드를 호출합니다.
+     *
+     * @param action 수행할 행동
+     * @return 행동 결과
+     */
+    default ActionResult act(Action action) {
+        switch (action) {
+            case EAT:    return eat();
+            case REST:   return rest();
+            case PLAY:   return play();
+            case HEAL:   return heal();
+            case GO_OUT: return goOut();
+            case WORK:   return work();
+            default:     throw new IllegalArgumentException("알 수 없는 행동: " + action);
+        }
+    }
 }
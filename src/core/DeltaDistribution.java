@@ -0,0 +1,87 @@
+package core;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 대사 행의 성공/실패별 감정 변화량 분포를 미리 펼쳐 둔 것.
+ * <p>감정별 [min, max] 범위는 서로 독립인 균등 분포이므로, 전체 조합 수 안에서 정수 하나를 뽑아
+ * 범위 크기를 자릿값으로 하는 혼합 기수로 풀면 감정마다 따로 뽑은 것과 같은 분포가 됩니다.
+ * 따라서 변화할 감정이 몇 개이든 난수는 한 번(모든 변화량이 고정이면 0번)만 씁니다.</p>
+ */
+public final class DeltaDistribution {
+
+    private final int[] emotions;   // 변화가 있는 감정의 ordinal
+    private final int[] mins;       // 감정별 최소 변화량
+    private final int[] spans;      // 감정별 범위 크기 (max - min + 1)
+    private final long combinations;
+
+    DeltaDistribution(Map<Emotion, int[]> ranges) {
+        int n = ranges.size();
+        emotions = new int[n];
+        mins = new int[n];
+        spans = new int[n];
+
+        // Emotion ordinal 순서 (EnumMap 순회 순서)
+        int k = 0;
+        long product = 1;
+        for (Map.Entry<Emotion, int[]> entry : ranges.entrySet()) {
+            int[] range = entry.getValue();
+            if (range[1] < range[0]) {
+                throw new IllegalArgumentException("감정 변화 범위가 잘못되었습니다: " + entry.getKey() + " " + range[0] + "~" + range[1]);
+            }
+            emotions[k] = entry.getKey().ordinal();
+            mins[k] = range[0];
+            spans[k] = range[1] - range[0] + 1;
+            product = Math.multiplyExact(product, spans[k]);
+            k++;
+        }
+        combinations = product;
+    }
+
+    /** 가능한 변화량 조합 수 (1 이면 항상 같은 변화량) */
+    public long combinations() { return combinations; }
+
+    /**
+     * 변화량을 한 번의 추첨으로 뽑습니다.
+     *
+     * @param rng 난수 생성기
+     * @return Emotion ordinal 을 인덱스로 하는 변화량 배열 (변화가 없는 감정은 0)
+     */
+    public int[] sample(RandomGenerator rng) {
+        long pick = 0;
+        if (combinations > Integer.MAX_VALUE) pick = rng.nextLong(combinations);
+        else if (combinations > 1) pick = rng.nextInt((int) combinations);
+        int[] deltas = new int[Emotion.COUNT];
+        write(pick, deltas);
+        return deltas;
+    }
+
+    /**
+     * 0 이상 {@link #combinations()} 미만의 번호를 변화량으로 풉니다. (난수 생성기를 직접 넘길 수 없는 경로용)
+     *
+     * @param pick   조합 번호
+     * @param deltas 변화량을 채울 배열 ([{@link Emotion#COUNT}], 변화가 없는 감정은 0 으로 채움)
+     */
+    public void decode(long pick, int[] deltas) {
+        Arrays.fill(deltas, 0);
+        write(pick, deltas);
+    }
+
+    private void write(long pick, int[] deltas) {
+        if (combinations <= Integer.MAX_VALUE) {
+            // 흔한 경우: 정수 나눗셈만 사용
+            int rest = (int) pick;
+            for (int k = 0; k < emotions.length; k++) {
+                deltas[emotions[k]] = mins[k] + rest % spans[k];
+                rest /= spans[k];
+            }
+        } else {
+            for (int k = 0; k < emotions.length; k++) {
+                deltas[emotions[k]] = mins[k] + (int) (pick % spans[k]);
+                pick /= spans[k];
+            }
+        }
+    }
+}
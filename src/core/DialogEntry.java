@@ -0,0 +1,81 @@
+package core;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CSV 한 행을 미리 해석해 둔 불변 대사 데이터.
+ * <p>성공 확률, 감정 변화 범위, {name} 템플릿이 모두 로드 시점에 파싱되어
+ * 행동 처리 중에는 문자열 파싱이 일어나지 않습니다. 감정 변화 범위는 {@link DeltaDistribution}으로도 펼쳐 두어
+ * 변화량 전체를 난수 한 번으로 뽑습니다.</p>
+ */
+public final class DialogEntry {
+
+    private final Action action;
+    private final DialogTemplate actionMessage;
+    private final DialogTemplate successMessage;
+    private final DialogTemplate failMessage;
+    private final double successRate;
+    private final Map<Emotion, int[]> successChanges;
+    private final Map<Emotion, int[]> failChanges;
+    private final DeltaDistribution successDeltas;
+    private final DeltaDistribution failDeltas;
+    private final double weight;
+
+    /**
+     * {@code DialogEntry} 객체를 생성합니다.
+     *
+     * @param action         행동 종류
+     * @param actionMessage  행동 설명 템플릿
+     * @param successMessage 성공 메시지 템플릿
+     * @param failMessage    실패 메시지 템플릿
+     * @param successRate    성공 확률 (0.0 ~ 1.0)
+     * @param successChanges 성공 시 감정별 [min, max] 변화 범위
+     * @param failChanges    실패 시 감정별 [min, max] 변화 범위
+     */
+    public DialogEntry(Action action, DialogTemplate actionMessage, DialogTemplate successMessage,
+                       DialogTemplate failMessage, double successRate,
+                       EnumMap<Emotion, int[]> successChanges, EnumMap<Emotion, int[]> failChanges) {
+        this(action, actionMessage, successMessage, failMessage, successRate, successChanges, failChanges, 1.0);
+    }
+
+    /**
+     * 추첨 가중치를 지정해 {@code DialogEntry} 객체를 생성합니다.
+     *
+     * @param weight 같은 행동의 다른 행에 대한 상대적인 추첨 가중치 (0 보다 큼)
+     * @see #DialogEntry(Action, DialogTemplate, DialogTemplate, DialogTemplate, double, EnumMap, EnumMap)
+     */
+    public DialogEntry(Action action, DialogTemplate actionMessage, DialogTemplate successMessage,
+                       DialogTemplate failMessage, double successRate,
+                       EnumMap<Emotion, int[]> successChanges, EnumMap<Emotion, int[]> failChanges,
+                       double weight) {
+        this.action = action;
+        this.actionMessage = actionMessage;
+        this.successMessage = successMessage;
+        this.failMessage = failMessage;
+        this.successRate = successRate;
+        this.successChanges = Collections.unmodifiableMap(successChanges);
+        this.failChanges = Collections.unmodifiableMap(failChanges);
+        this.successDeltas = new DeltaDistribution(successChanges);
+        this.failDeltas = new DeltaDistribution(failChanges);
+        this.weight = weight;
+    }
+
+    public Action getAction() { return action; }
+    public DialogTemplate getActionMessage() { return actionMessage; }
+    public DialogTemplate getSuccessMessage() { return successMessage; }
+    public DialogTemplate getFailMessage() { return failMessage; }
+    public double getSuccessRate() { return successRate; }
+    public double getWeight() { return weight; }
+
+    /** 성공 여부에 맞는 감정 변화 범위를 반환 */
+    public Map<Emotion, int[]> getChanges(boolean success) {
+        return success ? successChanges : failChanges;
+    }
+
+    /** 성공 여부에 맞는 감정 변화량 분포를 반환 */
+    public DeltaDistribution getDeltas(boolean success) {
+        return success ? successDeltas : failDeltas;
+    }
+}
@@ -0,0 +1,28 @@
+package core;
+
+/**
+ * 한 대사 파일의 현재 테이블을 가리키는 핸들.
+ * <p>콩이 생성될 때 {@link DialogRegistry#handle(String)}로 한 번 받아 두면,
+ * 행동할 때마다 파일 이름으로 Map 을 조회하는 대신 volatile 읽기 한 번으로 테이블을 얻습니다.
+ * 대사 파일이 다시 로드되면 {@link DialogRegistry}가 핸들의 테이블도 함께 교체합니다.</p>
+ */
+public final class DialogHandle {
+
+    private final String fileName;
+    private volatile DialogTable table;
+
+    DialogHandle(String fileName, DialogTable table) {
+        this.fileName = fileName;
+        this.table = table;
+    }
+
+    /** 현재 게시된 대사 테이블 */
+    public DialogTable table() { return table; }
+
+    /** 대사 파일 이름 */
+    public String getFileName() { return fileName; }
+
+    void set(DialogTable table) {
+        this.table = table;
+    }
+}
@@ -2,16 +2,27 @@ package core;
 
 import utils.*;
 import java.util.*;
+import java.util.random.RandomGenerator;
 import exceptions.*;
 
 /**
  * CSV에서 행동 정보를 읽어 ActionResult로 변환하는 클래스.
- * CSV 구조: action, actionMsg, successMsg, failMsg, successRate, successChanges, failChanges
+ * CSV 구조: action, actionMsg, successMsg, failMsg, successRate, successChanges, failChanges[, weight]
+ * <p>CSV는 {@link DialogRegistry}가 {@link DialogTable}로 컴파일해 보관하며,
+ * 이후에는 행동별 O(1) 조회와 랜덤 추첨만 수행합니다.
+ * 한 행동의 추첨은 행(별칭 표), 성공 여부, 감정 변화량(조합 번호)에 난수를 한 번씩만 씁니다.</p>
  */
 public class DialogLoader {
 
-    /** CSV 파일별 캐시 (중복 로딩 방지) */
-    private static final Map<String, List<String[]>> cache = new HashMap<>();
+    /**
+     * CSV 파일에 해당하는 대사 테이블을 반환합니다. 처음 요청 시 로드 후 등록합니다.
+     *
+     * @param fileName CSV 파일 이름 (예: "kind.csv")
+     * @return 현재 게시된 대사 테이블
+     */
+    public static DialogTable getTable(String fileName) {
+        return DialogRegistry.get(fileName);
+    }
 
     /**
      * CSV에서 특정 행동(action)의 결과를 읽어 ActionResult로 반환합니다.
@@ -22,30 +33,61 @@ public class DialogLoader {
      * @return ActionResult 결과 객체 (예외 발생 시 null)
      */
     public static ActionResult getFromCsv(String fileName, String action, String beanName) {
-        try {
-            // ===== 캐시 확인 및 로드 =====
-            List<String[]> lines = cache.get(fileName);
-            if (lines == null) {
-                lines = Utils.loadCsv(fileName, true);
-                cache.put(fileName, lines);
-            }
+        Action parsed = Action.fromKey(action);
+        if (parsed == null) {
+            ExceptionHandler.handle(BeanException.beanAction("CSV에서 [" + action + "] 항목을 찾을 수 없습니다."));
+            return null;
+        }
+        return getFromCsv(fileName, parsed, beanName);
+    }
 
-            // ===== 해당 action 라인 필터링 =====
-            List<String[]> matches = new ArrayList<>();
-            for (String[] cols : lines) {
-                if (cols.length > 0 && cols[0].equals(action)) {
-                    matches.add(cols);
-                }
-            }
+    /**
+     * CSV에서 특정 행동의 결과를 읽어 ActionResult로 반환합니다.
+     *
+     * @param fileName  CSV 파일 이름 (예: "lazy.csv")
+     * @param action    행동 종류
+     * @param beanName  콩 이름
+     * @return ActionResult 결과 객체 (예외 발생 시 null)
+     */
+    public static ActionResult getFromCsv(String fileName, Action action, String beanName) {
+        return getFromCsv(fileName, action, beanName, Utils.defaultRandom());
+    }
+
+    /**
+     * 지정한 난수 생성기로 CSV에서 특정 행동의 결과를 뽑아 ActionResult로 반환합니다.
+     *
+     * @param fileName  CSV 파일 이름 (예: "lazy.csv")
+     * @param action    행동 종류
+     * @param beanName  콩 이름
+     * @param rng       행 선택, 성공 판정, 감정 변화량에 사용할 난수 생성기
+     * @return ActionResult 결과 객체 (예외 발생 시 null)
+     */
+    public static ActionResult getFromCsv(String fileName, Action action, String beanName, RandomGenerator rng) {
+        return draw(getTable(fileName), action, beanName, rng);
+    }
+
+    /**
+     * 이미 찾아 둔 대사 테이블에서 특정 행동의 결과를 뽑아 ActionResult로 반환합니다.
+     * (파일 이름 조회 없이 {@link DialogHandle#table()}을 바로 넘기는 경로)
+     *
+     * @param table     대사 테이블
+     * @param action    행동 종류
+     * @param beanName  콩 이름
+     * @param rng       행 선택, 성공 판정, 감정 변화량에 사용할 난수 생성기
+     * @return ActionResult 결과 객체 (예외 발생 시 null)
+     */
+    public static ActionResult draw(DialogTable table, Action action, String beanName, RandomGenerator rng) {
+        try {
+            // ===== 가중치 추첨 =====
+            DialogEntry pick = table.pick(action, rng);
 
             // ===== 예외 처리: CSV에 행동이 없을 경우 =====
-            if (matches.isEmpty()) {
-                throw BeanException.beanAction("CSV에서 [" + action + "] 항목을 찾을 수 없습니다.");
+            if (pick == null) {
+                throw BeanException.beanAction("CSV에서 [" + action.getKey() + "] 항목을 찾을 수 없습니다.");
             }
 
-            // ===== 랜덤 선택 및 결과 생성 =====
-            String[] pick = matches.get(Utils.range(0, matches.size() - 1));
-            return buildResult(pick, beanName);
+            // ===== 결과 생성 =====
+            return buildResult(pick, beanName, rng);
 
         } catch (BeanException e) {
             // Bean 관련 예외 (CSV, 로직 오류 등)
@@ -54,23 +96,15 @@ public class DialogLoader {
 
         } catch (Exception e) {
             // 예기치 못한 일반 예외
-            ExceptionHandler.handle(BeanException.csvLoad(fileName, e));
+            ExceptionHandler.handle(BeanException.csvLoad(table.getFileName(), e));
             return null;
         }
     }
 
-    /** ActionResult 조립 */
-    private static ActionResult buildResult(String[] cols, String beanName) {
-        String actionMsg = Utils.replaceName(cols[1], beanName);
-        String resultSuccess = Utils.replaceName(cols[2], beanName);
-        String resultFail = Utils.replaceName(cols[3], beanName);
-
-        boolean success = Utils.chance(Double.parseDouble(cols[4]));
-        String resultMsg = success ? resultSuccess : resultFail;
-
-        Map<Emotion, Integer> emotionChanges =
-                Utils.parseEmotionChanges(success ? cols[5] : cols[6]);
-
-        return new ActionResult(beanName, actionMsg, resultMsg, emotionChanges, success);
+    /** ActionResult 조립 (문장은 출력할 때 조립되도록 대사 행만 넘김) */
+    private static ActionResult buildResult(DialogEntry entry, String beanName, RandomGenerator rng) {
+        boolean success = Utils.chance(rng, entry.getSuccessRate());
+        int[] emotionDeltas = entry.getDeltas(success).sample(rng);
+        return new ActionResult(beanName, entry, emotionDeltas, success);
     }
 }
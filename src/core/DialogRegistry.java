@@ -0,0 +1,230 @@
+package core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import exceptions.*;
+import metrics.CsvLoadEvent;
+import metrics.Metrics;
+import output.Output;
+
+/**
+ * 컴파일된 대사 테이블의 보관소.
+ * <p>파일 이름 → {@link DialogTable} 의 불변 Map 하나를 원자적 참조로 들고 있으며,
+ * 새 테이블은 Map 을 복사해 바꾼 뒤 참조를 한 번에 교체(copy-on-write)합니다.
+ * 행동 처리 중의 조회는 volatile 읽기 한 번과 Map 조회뿐이라 잠금이 없습니다.</p>
+ * <p>{@link #watch(Path)}로 대사 디렉터리를 감시하면, CSV 가 수정될 때마다 감시 스레드에서
+ * 새 테이블을 끝까지 만든 뒤 교체하므로 재시작 없이 대사/밸런스 수정이 반영됩니다.</p>
+ */
+public final class DialogRegistry {
+
+    /** 파일 이름 → 대사 테이블 (항상 불변 Map, 교체로만 갱신) */
+    private static final AtomicReference<Map<String, DialogTable>> tables = new AtomicReference<>(Map.of());
+
+    /** 파일 이름 → 미리 받아 둔 핸들 (테이블을 교체할 때 함께 갱신) */
+    private static final Map<String, DialogHandle> handles = new ConcurrentHashMap<>();
+
+    /** 클래스패스보다 먼저 읽을 대사 디렉터리 (감시 중일 때만 지정) */
+    private static volatile Path overrideDir;
+
+    /** 편집기가 한 번 저장할 때 여러 번 오는 수정 이벤트를 묶는 대기 시간 */
+    private static final long DEBOUNCE_MS = 100;
+
+    private DialogRegistry() {}
+
+    // ==============================
+    // 조회 / 교체
+    // ==============================
+
+    /**
+     * 대사 테이블을 반환합니다. 처음 요청된 파일이면 읽어서 등록합니다.
+     *
+     * @param fileName CSV 파일 이름 (예: "kind.csv")
+     * @return 현재 게시된 대사 테이블
+     */
+    public static DialogTable get(String fileName) {
+        DialogTable table = tables.get().get(fileName);
+        Metrics.dialogLookup(table != null);
+        return (table != null) ? table : loadAndPublish(fileName);
+    }
+
+    /**
+     * 대사 파일의 핸들을 반환합니다. 같은 파일이면 항상 같은 핸들이며, 처음 요청된 파일이면 읽어서 등록합니다.
+     *
+     * @param fileName CSV 파일 이름 (예: "kind.csv")
+     * @return 현재 테이블을 가리키는 핸들
+     */
+    public static DialogHandle handle(String fileName) {
+        DialogHandle handle = handles.get(fileName);
+        if (handle != null) {
+            Metrics.dialogLookup(true);
+            return handle;
+        }
+
+        DialogTable table = get(fileName);
+        handle = handles.computeIfAbsent(fileName, name -> new DialogHandle(name, table));
+        refresh(handle); // 핸들을 만드는 사이에 교체된 테이블 반영
+        return handle;
+    }
+
+    /** 핸들이 가장 최근에 게시된 테이블을 가리키도록 갱신 (늦게 끝난 갱신이 새 테이블을 덮어쓰지 않도록 직렬화) */
+    private static void refresh(DialogHandle handle) {
+        synchronized (handle) {
+            DialogTable table = tables.get().get(handle.getFileName());
+            if (table != null) handle.set(table);
+        }
+    }
+
+    /** 처음 요청된 파일 등록 (동시에 요청되면 먼저 게시된 테이블을 모두가 사용) */
+    private static DialogTable loadAndPublish(String fileName) {
+        DialogTable loaded = read(fileName);
+        if (loaded == null) loaded = DialogTable.load(fileName); // 이전 테이블이 없으므로 클래스패스 리소스로
+        while (true) {
+            Map<String, DialogTable> current = tables.get();
+            DialogTable existing = current.get(fileName);
+            if (existing != null) return existing;
+            if (tables.compareAndSet(current, with(current, fileName, loaded))) return loaded;
+        }
+    }
+
+    /**
+     * 테이블을 게시합니다. 이후의 조회부터 새 테이블이 쓰이며, 이미 진행 중인 조회는 이전 테이블을 그대로 사용합니다.
+     *
+     * @param fileName CSV 파일 이름
+     * @param table    새 대사 테이블
+     */
+    public static void publish(String fileName, DialogTable table) {
+        tables.getAndUpdate(current -> with(current, fileName, table));
+        DialogHandle handle = handles.get(fileName);
+        if (handle != null) refresh(handle);
+    }
+
+    /**
+     * 대사 파일을 다시 읽어 교체합니다. 파일을 읽지 못했거나 유효한 행이 없으면 이전 테이블을 유지합니다.
+     *
+     * @param fileName CSV 파일 이름
+     * @return 교체했으면 true
+     */
+    public static boolean reload(String fileName) {
+        DialogTable table = read(fileName);
+        if (table == null) return false; // 읽기 오류는 readFrom 에서 보고함
+        if (table.size() == 0) {
+            ExceptionHandler.handle(BeanException.beanAction(
+                    "대사 파일에 유효한 행이 없어 이전 대사를 유지합니다: " + fileName));
+            return false;
+        }
+        publish(fileName, table);
+        return true;
+    }
+
+    /** 현재 게시된 테이블의 파일 이름 목록 */
+    public static Set<String> loadedFiles() {
+        return tables.get().keySet();
+    }
+
+    private static Map<String, DialogTable> with(Map<String, DialogTable> current, String fileName, DialogTable table) {
+        Map<String, DialogTable> next = new HashMap<>(current);
+        next.put(fileName, table);
+        return Collections.unmodifiableMap(next);
+    }
+
+    /** 감시 디렉터리에 파일이 있으면 그것을, 없으면 클래스패스 리소스를 읽음 (감시 디렉터리의 파일을 읽지 못하면 null) */
+    private static DialogTable read(String fileName) {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        long start = Metrics.start();
+        DialogTable table = readFrom(overrideDir, fileName);
+        Metrics.dialogLoad(start);
+        event.finish(fileName, table == null ? 0 : table.size());
+        return table;
+    }
+
+    private static DialogTable readFrom(Path dir, String fileName) {
+        if (dir != null) {
+            Path file = dir.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return DialogTable.load(file);
+                } catch (IOException e) {
+                    // 쓰는 도중 등으로 읽지 못한 것이므로 클래스패스 대사로 되돌리지 않음
+                    ExceptionHandler.handle(BeanException.csvLoad(file.toString(), e));
+                    return null;
+                }
+            }
+        }
+        return DialogTable.load(fileName);
+    }
+
+    // ==============================
+    // 디렉터리 감시
+    // ==============================
+
+    /**
+     * 대사 디렉터리를 감시하여, CSV 가 생성/수정되면 해당 테이블을 다시 읽어 교체합니다.
+     * 감시를 시작하면 이미 등록된 테이블도 이 디렉터리 기준으로 한 번 다시 읽습니다.
+     *
+     * @param dir 감시할 디렉터리 (예: 개발 중인 resources/)
+     * @return 감시를 멈출 때 닫는 핸들
+     * @throws IOException 감시를 등록하지 못했을 때
+     */
+    public static Closeable watch(Path dir) throws IOException {
+        WatchService service = dir.getFileSystem().newWatchService();
+        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        overrideDir = dir;
+
+        for (String fileName : loadedFiles()) reload(fileName);
+
+        Thread thread = new Thread(() -> watchLoop(service), "dialog-watcher");
+        thread.setDaemon(true);
+        thread.start();
+
+        return () -> {
+            overrideDir = null;
+            service.close();
+        };
+    }
+
+    private static void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MS);
+
+                Set<String> changed = new LinkedHashSet<>();
+                for (; key != null; key = service.poll()) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path) {
+                            String name = event.context().toString();
+                            if (name.endsWith(".csv")) changed.add(name);
+                        }
+                    }
+                    key.reset();
+                }
+
+                // 아직 한 번도 쓰이지 않은 파일은 처음 조회할 때 디렉터리에서 읽히므로 건너뜀
+                for (String fileName : changed) {
+                    if (tables.get().containsKey(fileName) && reload(fileName)) {
+                        Output.line("[대사] " + fileName + " 을(를) 다시 불러왔습니다.");
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 감시 종료
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import exceptions.*;
+import utils.AliasTable;
+import utils.CsvReader;
+import utils.Utils;
+
+/**
+ * 한 성격(CSV 파일)의 대사를 행동별로 색인해 둔 테이블.
+ * <p>행동(Action)의 ordinal 을 인덱스로 하는 배열에 컴파일된 행을 보관하므로
+ * 행동 처리 시에는 O(1) 조회만 수행합니다.</p>
+ * <p>행 추첨은 행동별 {@link AliasTable}로 하며, 8번째 칸(weight)의 가중치에 비례합니다.
+ * 가중치를 적지 않은 행은 1 이라, 가중치가 없는 파일은 예전과 같이 균등하게 뽑힙니다.</p>
+ */
+public final class DialogTable {
+
+    private static final DialogEntry[] EMPTY = new DialogEntry[0];
+
+    private final String fileName;
+    private final DialogEntry[][] byAction;
+    private final AliasTable[] pickers;     // 행동별 행 추첨 표 (행이 없으면 null)
+
+    private DialogTable(String fileName, DialogEntry[][] byAction) {
+        this.fileName = fileName;
+        this.byAction = byAction;
+        this.pickers = new AliasTable[byAction.length];
+        for (int i = 0; i < byAction.length; i++) {
+            DialogEntry[] entries = byAction[i];
+            if (entries.length == 0) continue;
+            double[] weights = new double[entries.length];
+            for (int j = 0; j < entries.length; j++) weights[j] = entries[j].getWeight();
+            pickers[i] = new AliasTable(weights);
+        }
+    }
+
+    /**
+     * 리소스 CSV 를 {@link CsvReader}로 스트리밍하며 바로 컴파일합니다.
+     * 행 목록을 따로 만들지 않고, 한 행의 칸 배열을 재사용합니다.
+     *
+     * @param fileName 리소스 경로 기준 CSV 파일 이름 (첫 행은 헤더)
+     * @return 컴파일된 대사 테이블 (읽기 실패 시 오류를 알리고 빈 테이블)
+     */
+    public static DialogTable load(String fileName) {
+        try {
+            return stream(fileName, visitor -> CsvReader.readResource(fileName, true, visitor));
+        } catch (IOException e) {
+            ExceptionHandler.handle(BeanException.csvLoad(fileName, e));
+            return new Builder(fileName).build();
+        }
+    }
+
+    /**
+     * 파일 시스템의 CSV 를 읽어 컴파일합니다. (대사 파일 실시간 교체용)
+     *
+     * @param file CSV 파일 경로 (첫 행은 헤더)
+     * @return 컴파일된 대사 테이블 (이름은 파일 이름)
+     * @throws IOException 파일을 읽지 못했을 때
+     */
+    public static DialogTable load(Path file) throws IOException {
+        return stream(file.getFileName().toString(), visitor -> CsvReader.readFile(file, true, visitor));
+    }
+
+    /** CSV 읽기 동작 (원본 위치만 다름) */
+    private interface Source {
+        void read(CsvReader.Visitor visitor) throws IOException;
+    }
+
+    private static DialogTable stream(String fileName, Source source) throws IOException {
+        Builder builder = new Builder(fileName);
+        source.read(new CsvReader.Visitor() {
+            private String[] cols = new String[7];
+
+            @Override
+            public void field(int column, byte[] data, int offset, int length) {
+                if (column == cols.length) cols = Arrays.copyOf(cols, column * 2);
+                cols[column] = CsvReader.text(data, offset, length);
+            }
+
+            @Override
+            public void endRow(int columns) {
+                builder.add(columns == cols.length ? cols : Arrays.copyOf(cols, columns));
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * CSV 행 목록을 컴파일하여 테이블을 만듭니다.
+     * 빈 구분 행(",,,,,,")은 건너뛰고, 형식이 잘못된 행은 오류를 알린 뒤 제외합니다.
+     *
+     * @param fileName CSV 파일 이름 (오류 메시지용)
+     * @param rows     헤더를 제외한 CSV 행 목록
+     * @return 컴파일된 대사 테이블
+     */
+    public static DialogTable compile(String fileName, List<String[]> rows) {
+        Builder builder = new Builder(fileName);
+        for (String[] cols : rows) builder.add(cols);
+        return builder.build();
+    }
+
+    /** 행을 행동별로 모아 테이블을 만드는 도우미 */
+    private static final class Builder {
+        private final String fileName;
+        private final List<List<DialogEntry>> buckets = new ArrayList<>();
+
+        Builder(String fileName) {
+            this.fileName = fileName;
+            for (int i = 0; i < Action.values().length; i++) buckets.add(new ArrayList<>());
+        }
+
+        /** 한 행 컴파일 (컴파일 후 cols 를 참조하지 않으므로 호출자가 재사용 가능) */
+        void add(String[] cols) {
+            if (cols.length == 0 || cols[0].isEmpty()) return;
+
+            Action action = Action.fromKey(cols[0]);
+            if (action == null) return;
+
+            try {
+                buckets.get(action.ordinal()).add(compileRow(action, cols));
+            } catch (BeanException e) {
+                ExceptionHandler.handle(e);
+            } catch (Exception e) {
+                ExceptionHandler.handle(BeanException.beanAction(
+                        "CSV 행 해석 실패 (" + fileName + "): " + String.join(",", cols)));
+            }
+        }
+
+        DialogTable build() {
+            DialogEntry[][] byAction = new DialogEntry[buckets.size()][];
+            for (int i = 0; i < byAction.length; i++) {
+                byAction[i] = buckets.get(i).toArray(EMPTY);
+            }
+            return new DialogTable(fileName, byAction);
+        }
+    }
+
+    /** CSV 한 행을 DialogEntry 로 변환 */
+    private static DialogEntry compileRow(Action action, String[] cols) {
+        if (cols.length < 7) {
+            throw BeanException.beanAction("CSV 컬럼 수가 부족합니다: " + String.join(",", cols));
+        }
+        double weight = (cols.length > 7 && !cols[7].isBlank()) ? Double.parseDouble(cols[7].trim()) : 1.0;
+        if (!(weight > 0) || Double.isInfinite(weight)) {
+            throw BeanException.beanAction("가중치는 0보다 큰 값이어야 합니다: " + String.join(",", cols));
+        }
+
+        EnumMap<Emotion, int[]> successChanges = Utils.parseEmotionRanges(cols[5]);
+        EnumMap<Emotion, int[]> failChanges = Utils.parseEmotionRanges(cols[6]);
+
+        return new DialogEntry(action,
+                DialogTemplate.compile(cols[1]),
+                DialogTemplate.compile(cols[2]),
+                DialogTemplate.compile(cols[3]),
+                Double.parseDouble(cols[4]),
+                successChanges, failChanges, weight);
+    }
+
+    /**
+     * 특정 행동에 해당하는 대사 행들을 반환합니다.
+     *
+     * @param action 행동 종류
+     * @return 컴파일된 행 배열 (없으면 빈 배열)
+     */
+    public DialogEntry[] entries(Action action) {
+        return byAction[action.ordinal()];
+    }
+
+    /**
+     * 특정 행동의 행 추첨 표를 반환합니다. 표의 번호는 {@link #entries(Action)} 배열의 위치입니다.
+     *
+     * @param action 행동 종류
+     * @return 가중치 추첨 표 (행이 없으면 null)
+     */
+    public AliasTable picker(Action action) {
+        return pickers[action.ordinal()];
+    }
+
+    /**
+     * 가중치에 비례해 행동의 대사 행 하나를 뽑습니다.
+     *
+     * @param action 행동 종류
+     * @param rng    난수 생성기
+     * @return 뽑힌 행 (행이 없으면 null)
+     */
+    public DialogEntry pick(Action action, RandomGenerator rng) {
+        AliasTable picker = pickers[action.ordinal()];
+        return (picker == null) ? null : byAction[action.ordinal()][picker.sample(rng)];
+    }
+
+    /** 원본 CSV 파일 이름 */
+    public String getFileName() { return fileName; }
+
+    /** 전체 대사 행 수 */
+    public int size() {
+        int size = 0;
+        for (DialogEntry[] entries : byAction) size += entries.length;
+        return size;
+    }
+}
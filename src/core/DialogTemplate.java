@@ -0,0 +1,57 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {name} 태그를 미리 분리해 둔 대사 템플릿.
+ * <p>로드 시 한 번만 분리하고, 출력할 때는 조각 사이에 이름만 끼워 넣습니다.</p>
+ */
+public final class DialogTemplate {
+
+    private static final String NAME_TAG = "{name}";
+
+    /** 태그를 기준으로 나눈 고정 문자열 조각 (태그 개수 + 1 개) */
+    private final String[] parts;
+
+    private DialogTemplate(String[] parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * 대사 문자열을 템플릿으로 컴파일합니다.
+     *
+     * @param text 원본 문자열 (null 이면 빈 문자열로 취급)
+     * @return 컴파일된 템플릿
+     */
+    public static DialogTemplate compile(String text) {
+        if (text == null) text = "";
+
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        int at;
+        while ((at = text.indexOf(NAME_TAG, from)) >= 0) {
+            parts.add(text.substring(from, at));
+            from = at + NAME_TAG.length();
+        }
+        parts.add(text.substring(from));
+        return new DialogTemplate(parts.toArray(new String[0]));
+    }
+
+    /**
+     * 템플릿에 이름을 채워 넣은 문자열을 반환합니다.
+     *
+     * @param name 콩 이름
+     * @return 완성된 대사
+     */
+    public String render(String name) {
+        if (parts.length == 1) return parts[0];
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(name).append(parts[i]);
+        }
+        return sb.toString();
+    }
+}
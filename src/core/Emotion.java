@@ -12,12 +12,23 @@ public enum Emotion {
     MOTIVATION("의욕"),
     FEAR("공포");
 
+    /** 감정 종류 수 */
+    public static final int COUNT = values().length;
+
+    // values()는 호출마다 배열을 복사하므로 한 번만 만들어 둠
+    private static final Emotion[] VALUES = values();
+
     private final String koreanEmotion;
 
     Emotion(String koreanEmotion) {
         this.koreanEmotion = koreanEmotion;
     }
 
+    /** ordinal 값으로 감정을 찾음 */
+    public static Emotion byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
     @Override
     public String toString() {
         return koreanEmotion;
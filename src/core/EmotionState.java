@@ -0,0 +1,141 @@
+package core;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 콩의 감정 수치를 primitive 배열로 보관하는 상태 객체.
+ * <p>감정의 ordinal 을 인덱스로 사용하고 합계를 함께 유지하므로,
+ * 값 변경과 평균 계산 모두 객체 생성(박싱) 없이 처리됩니다.
+ * 모든 값은 항상 {@value #MIN} ~ {@value #MAX} 사이로 유지됩니다.</p>
+ */
+public final class EmotionState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MIN = 0;
+    public static final int MAX = 100;
+    public static final int DEFAULT = 50;
+
+    private final int[] values = new int[Emotion.COUNT];
+    private int sum;
+
+    // 읽기 전용 Map 뷰 (필요할 때 한 번만 생성)
+    private transient Map<Emotion, Integer> view;
+
+    /** 모든 감정을 기본값({@value #DEFAULT})으로 초기화 */
+    public EmotionState() {
+        for (int i = 0; i < values.length; i++) values[i] = DEFAULT;
+        sum = DEFAULT * values.length;
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    /** 감정 수치 */
+    public int get(Emotion emotion) {
+        return values[emotion.ordinal()];
+    }
+
+    /** ordinal 로 감정 수치 조회 */
+    public int get(int ordinal) {
+        return values[ordinal];
+    }
+
+    /** 전체 감정 수치의 합 */
+    public int sum() {
+        return sum;
+    }
+
+    /** 전체 감정 수치의 평균 */
+    public double average() {
+        return (double) sum / values.length;
+    }
+
+    // ==============================
+    // 변경
+    // ==============================
+
+    /** 감정 수치 변경 (0~100 범위 제한) */
+    public void change(Emotion emotion, int delta) {
+        set(emotion.ordinal(), values[emotion.ordinal()] + delta);
+    }
+
+    /** 감정 수치 지정 (0~100 범위 제한) */
+    public void set(Emotion emotion, int value) {
+        set(emotion.ordinal(), value);
+    }
+
+    private void set(int ordinal, int value) {
+        int next = Math.max(MIN, Math.min(MAX, value));
+        sum += next - values[ordinal];
+        values[ordinal] = next;
+    }
+
+    // ==============================
+    // 호환용 Map 뷰
+    // ==============================
+
+    /**
+     * 감정 수치를 읽기 전용 Map 으로 보여줍니다.
+     * 복사본이 아니라 뷰이므로 이후 변경 사항도 그대로 반영됩니다.
+     */
+    public Map<Emotion, Integer> asMap() {
+        if (view == null) view = new View();
+        return view;
+    }
+
+    /** ordinal 순서(Emotion 선언 순서)로 순회하는 읽기 전용 뷰 */
+    private final class View extends AbstractMap<Emotion, Integer> {
+
+        @Override
+        public Integer get(Object key) {
+            return (key instanceof Emotion) ? values[((Emotion) key).ordinal()] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Emotion;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Set<Entry<Emotion, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+                @Override
+                public Iterator<Entry<Emotion, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<Emotion, Integer> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(Emotion.byOrdinal(i), values[i]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
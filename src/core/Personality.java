@@ -0,0 +1,53 @@
+package core;
+
+/**
+ * 콩의 성격 하나를 설명하는 값 (personalities.csv 의 한 행).
+ * <p>성격마다 하위 클래스를 만들지 않고, 대사 파일과 rules.csv 범위 이름만으로 성격을 정의합니다.</p>
+ */
+public final class Personality {
+
+    private final int id;
+    private final String key;
+    private final String name;
+    private final String menuName;
+    private final String dialogFile;
+
+    // 대사 핸들 (처음 행동할 때 찾아 둠, 같은 파일이면 항상 같은 핸들)
+    private volatile DialogHandle dialog;
+
+    /**
+     * @param id         성격 번호 (선택 메뉴와 세이브 파일에 쓰임, 1 이상)
+     * @param key        성격 키 (rules.csv, decay.csv 의 이름)
+     * @param name       표시 이름 (예: "착한 콩")
+     * @param menuName   선택 메뉴에 보일 이름
+     * @param dialogFile 대사 CSV 파일 이름
+     */
+    public Personality(int id, String key, String name, String menuName, String dialogFile) {
+        this.id = id;
+        this.key = key;
+        this.name = name;
+        this.menuName = menuName;
+        this.dialogFile = dialogFile;
+    }
+
+    /** 이 성격의 대사 핸들 */
+    public DialogHandle dialog() {
+        DialogHandle handle = dialog;
+        if (handle == null) dialog = handle = DialogRegistry.handle(dialogFile);
+        return handle;
+    }
+
+    // ==============================
+    // Getter
+    // ==============================
+    public int getId() { return id; }
+    public String getKey() { return key; }
+    public String getName() { return name; }
+    public String getMenuName() { return menuName; }
+    public String getDialogFile() { return dialogFile; }
+
+    @Override
+    public String toString() {
+        return id + ":" + key;
+    }
+}
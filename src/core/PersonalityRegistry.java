@@ -0,0 +1,174 @@
+package core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import exceptions.BeanException;
+import exceptions.ExceptionHandler;
+import utils.CsvReader;
+
+/**
+ * 클래스패스의 personalities.csv 설명 파일에서 콩의 성격을 찾아 두는 등록소.
+ * <p>같은 이름의 설명 파일이 여러 개(예: 성격 추가용 jar)면 모두 읽으므로,
+ * 대사 CSV 와 설명 행만 넣으면 코드 수정 없이 성격이 늘어납니다.</p>
+ *
+ * <pre>
+ * id,key,name,menu,dialog
+ * 1,kind,착한 콩,상냥한 콩,kind.csv
+ * </pre>
+ * <p>dialog 열이 비어 있으면 {@code key + ".csv"} 를 사용합니다.</p>
+ */
+public final class PersonalityRegistry {
+
+    public static final String FILE = "personalities.csv";
+
+    private PersonalityRegistry() {}
+
+    /** 처음 사용할 때 한 번만 읽음 */
+    private static final class Holder {
+        static final List<Personality> ALL;
+        static final Personality[] BY_ID;
+        static final Map<String, Personality> BY_KEY = new HashMap<>();
+
+        static {
+            List<Personality> all = new ArrayList<>();
+            int maxId = 0;
+            for (Personality personality : load()) {
+                if (BY_KEY.containsKey(personality.getKey()) || find(all, personality.getId()) != null) {
+                    ExceptionHandler.handle(BeanException.beanAction("중복된 성격이라 무시합니다: " + personality));
+                    continue;
+                }
+                all.add(personality);
+                BY_KEY.put(personality.getKey(), personality);
+                maxId = Math.max(maxId, personality.getId());
+            }
+            all.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+
+            BY_ID = new Personality[maxId + 1];
+            for (Personality personality : all) BY_ID[personality.getId()] = personality;
+            ALL = Collections.unmodifiableList(all);
+        }
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    /** 등록된 모든 성격 (번호 순) */
+    public static List<Personality> all() {
+        return Holder.ALL;
+    }
+
+    /**
+     * 성격 번호로 찾습니다.
+     *
+     * @param id 성격 번호
+     * @return 성격, 없으면 null
+     */
+    public static Personality byId(int id) {
+        Personality[] byId = Holder.BY_ID;
+        return (id > 0 && id < byId.length) ? byId[id] : null;
+    }
+
+    /**
+     * 성격 키로 찾습니다.
+     *
+     * @param key 성격 키 (예: "kind")
+     * @return 성격, 없으면 null
+     */
+    public static Personality byKey(String key) {
+        return Holder.BY_KEY.get(key);
+    }
+
+    /**
+     * 성격 키로 찾고, 없으면 예외를 던집니다.
+     *
+     * @param key 성격 키
+     * @return 성격
+     * @throws BeanException 등록되지 않은 키일 때
+     */
+    public static Personality require(String key) {
+        Personality personality = byKey(key);
+        if (personality == null) throw BeanException.beanAction("등록되지 않은 성격입니다: " + key);
+        return personality;
+    }
+
+    /** 가장 큰 성격 번호 (번호로 색인하는 배열 크기 - 1) */
+    public static int maxId() {
+        return Holder.BY_ID.length - 1;
+    }
+
+    private static Personality find(List<Personality> list, int id) {
+        for (Personality personality : list) {
+            if (personality.getId() == id) return personality;
+        }
+        return null;
+    }
+
+    // ==============================
+    // 설명 파일 읽기
+    // ==============================
+
+    private static List<Personality> load() {
+        List<Personality> found = new ArrayList<>();
+        try {
+            ClassLoader loader = PersonalityRegistry.class.getClassLoader();
+            Enumeration<URL> urls = loader.getResources(FILE);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                byte[] data;
+                try (InputStream in = url.openStream()) {
+                    data = in.readAllBytes();
+                }
+                CsvReader.parse(data, data.length, true, new RowVisitor(url.toString(), found));
+            }
+        } catch (IOException e) {
+            ExceptionHandler.handle(BeanException.csvLoad(FILE, e));
+        }
+        return found;
+    }
+
+    /** 설명 파일 한 행을 Personality 로 변환 */
+    private static final class RowVisitor implements CsvReader.Visitor {
+        private final String source;
+        private final List<Personality> out;
+        private String[] cols = new String[5];
+
+        RowVisitor(String source, List<Personality> out) {
+            this.source = source;
+            this.out = out;
+        }
+
+        @Override
+        public void field(int column, byte[] data, int offset, int length) {
+            if (column == cols.length) cols = Arrays.copyOf(cols, column * 2);
+            cols[column] = CsvReader.text(data, offset, length);
+        }
+
+        @Override
+        public void endRow(int columns) {
+            try {
+                if (columns < 3) throw new IllegalArgumentException("컬럼 수가 부족합니다");
+                int id = Integer.parseInt(cols[0]);
+                if (id <= 0 || id > Byte.MAX_VALUE) throw new IllegalArgumentException("성격 번호는 1~127 이어야 합니다");
+
+                String key = cols[1];
+                String name = cols[2];
+                String menu = (columns > 3 && !cols[3].isEmpty()) ? cols[3] : name;
+                String dialog = (columns > 4 && !cols[4].isEmpty()) ? cols[4] : key + ".csv";
+                out.add(new Personality(id, key, name, menu, dialog));
+            } catch (RuntimeException e) {
+                ExceptionHandler.handle(BeanException.beanAction(
+                        "성격 설명 행 해석 실패 (" + source + "): " + String.join(",", Arrays.copyOf(cols, columns))));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import exceptions.BeanException;
+import exceptions.ExceptionHandler;
+import utils.Utils;
+
+/**
+ * rules.csv 를 읽어 성격별 {@link RuleTable}을 만들어 두는 보관소.
+ * <p>성격의 테이블은 공통(common) 규칙 뒤에 그 성격의 규칙을 이어 붙여 한 번만 컴파일합니다.</p>
+ *
+ * <pre>
+ * scope,stage,condition,effects,event,message
+ * common,1,TRUST&lt;=10,HAPPY:-10|ENERGY:-15,RAN_AWAY,
+ * kind,2,AVG&lt;26,MOTIVATION:+5|HAPPY:+3,,{name}: 힘들지만... 그래도 다시 해볼게요!
+ * </pre>
+ */
+public final class RuleBook {
+
+    public static final String FILE = "rules.csv";
+
+    /** 모든 성격에 먼저 적용되는 규칙의 범위 이름 */
+    public static final String COMMON = "common";
+
+    private static final Map<String, RuleTable> tables = new ConcurrentHashMap<>();
+
+    private RuleBook() {}
+
+    /** 처음 사용할 때 한 번만 읽음 */
+    private static final class Holder {
+        static final List<String[]> ROWS = Utils.loadCsv(FILE, true);
+    }
+
+    /**
+     * 성격의 규칙 테이블을 반환합니다.
+     *
+     * @param scope 성격 이름 (예: "kind", null 이면 공통 규칙만)
+     * @return 컴파일된 규칙 테이블
+     */
+    public static RuleTable get(String scope) {
+        return tables.computeIfAbsent(scope == null ? COMMON : scope, RuleBook::compile);
+    }
+
+    private static RuleTable compile(String scope) {
+        RuleTable.Builder builder = new RuleTable.Builder();
+        addRows(builder, COMMON);
+        if (!COMMON.equals(scope)) addRows(builder, scope);
+        return builder.build();
+    }
+
+    private static void addRows(RuleTable.Builder builder, String scope) {
+        for (String[] row : Holder.ROWS) {
+            if (!scope.equals(column(row, 0))) continue;
+            try {
+                builder.add(scope + ":" + column(row, 1), column(row, 2), column(row, 3), column(row, 4), column(row, 5));
+            } catch (IllegalArgumentException e) {
+                ExceptionHandler.handle(BeanException.beanAction("규칙 파싱 실패 (" + String.join(",", row) + "): " + e.getMessage()));
+            }
+        }
+    }
+
+    private static String column(String[] row, int index) {
+        return index < row.length ? row[index] : "";
+    }
+}
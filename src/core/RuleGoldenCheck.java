@@ -0,0 +1,155 @@
+package core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import game.FarmManager;
+
+/**
+ * 특수 상태 규칙이 기준 파일과 같은 결과를 내는지 확인하는 도구.
+ * <p>기준 파일({@value #DEFAULT_FILE})은 규칙을 rules.csv 의 결정 테이블({@link RuleTable})로 옮기기 전,
+ * 성격별 클래스의 if 문 구현에서 이 도구의 write 모드로 만든 것입니다. 행마다 성격 번호, 규칙 적용 전 상태,
+ * 적용 후 상태, 발생한 이벤트, 출력된 대사가 탭으로 구분되어 있으며(상태는 {@link Beans#writeState}의 Base64),
+ * check 모드는 같은 시작 상태에 지금의 규칙을 적용해 나머지가 모두 같은지 비교합니다.</p>
+ * <p>시작 상태는 규칙의 경계값(10, 25, 90 …) 근처를 많이 뽑도록 만들며, 시드 1, 42, 777 에서 성격마다 같은 수를 만듭니다.</p>
+ */
+public final class RuleGoldenCheck {
+
+    public static final String DEFAULT_FILE = "golden/rules.golden";
+
+    private static final long[] SEEDS = {1L, 42L, 777L};
+    private static final int CASES_PER_SEED = 200;
+    private static final int TYPES = 3;
+
+    // 규칙 조건에 쓰인 경계값과 그 이웃
+    private static final int[] EMOTION_EDGES = {0, 1, 9, 10, 11, 14, 15, 16, 25, 26, 50, 79, 80, 81, 89, 90, 91, 99, 100};
+    private static final int[] ENERGY_EDGES = {-5, 0, 1, 19, 20, 24, 25, 26, 50, 99, 100, 103};
+
+    private RuleGoldenCheck() {}
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /**
+     * 기준 파일의 모든 행을 지금의 규칙으로 다시 계산해 비교합니다.
+     *
+     * @param lines 기준 파일의 행
+     * @return 다른 행의 설명 (모두 같으면 빈 목록)
+     */
+    public static List<String> check(List<String> lines) throws IOException {
+        List<String> mismatches = new ArrayList<>();
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] f = line.split("\t", 4);
+            String actual = run(Integer.parseInt(f[0]), Base64.getDecoder().decode(f[1]));
+            String expected = line.substring(line.indexOf('\t', line.indexOf('\t') + 1) + 1);
+            if (!expected.equals(actual)) {
+                mismatches.add((n + 1) + "행: 기준 [" + expected + "] / 현재 [" + actual + "]");
+            }
+        }
+        return mismatches;
+    }
+
+    /** 경계값 위주의 시작 상태를 만들어 지금의 규칙으로 기준 파일을 작성 */
+    public static List<String> write() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# 성격\t적용 전 상태\t적용 후 상태\t이벤트\t대사...");
+        for (long seed : SEEDS) {
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int type = 1; type <= TYPES; type++) {
+                for (int c = 0; c < CASES_PER_SEED; c++) {
+                    byte[] state = randomState(random);
+                    lines.add(type + "\t" + Base64.getEncoder().encodeToString(state) + "\t" + run(type, state));
+                }
+            }
+        }
+        return lines;
+    }
+
+    /** 시작 상태에 규칙을 한 번 적용하고 "적용 후 상태\t이벤트[\t대사...]" 를 반환 */
+    private static String run(int type, byte[] state) throws IOException {
+        Beans bean = FarmManager.createBean(type, "콩");
+        restore(bean, state);
+
+        List<String> events = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        bean.setEventHandler(event -> events.add(event.getType().name()));
+        bean.setMessageSink(messages::add);
+        bean.checkSpecialConditions();
+
+        ByteArrayOutputStream after = new ByteArrayOutputStream();
+        bean.writeState(new DataOutputStream(after));
+        StringBuilder sb = new StringBuilder(Base64.getEncoder().encodeToString(after.toByteArray()));
+        sb.append('\t').append(String.join(",", events));
+        for (String message : messages) sb.append('\t').append(message.replace('\t', ' ').replace('\n', ' '));
+        return sb.toString();
+    }
+
+    /**
+     * 시작 상태를 콩에 덮어씁니다. 에너지가 범위 밖인 경계 사례도 있어
+     * 범위를 검사하는 {@link Beans#readState} 대신 값을 그대로 넣습니다.
+     */
+    private static void restore(Beans bean, byte[] state) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(state));
+        int energy = in.readByte();
+        for (int e = 0; e < Emotion.COUNT; e++) bean.setEmotion(Emotion.byOrdinal(e), in.readByte());
+        int actionsCount = in.readInt();
+        boolean recentlyHealed = in.readBoolean();
+        int last = in.readByte();
+        bean.restoreState(energy, actionsCount, recentlyHealed, last < 0 ? null : Action.values()[last]);
+    }
+
+    /** {@link Beans#writeState} 형식의 시작 상태 */
+    private static byte[] randomState(SplittableRandom random) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(random.nextInt(4) == 0 ? random.nextInt(-10, 111) : ENERGY_EDGES[random.nextInt(ENERGY_EDGES.length)]);
+        // 네 번 중 한 번은 감정을 낮게 뽑아 평균 조건(AVG)의 경계를 지나게 함
+        boolean low = random.nextInt(4) == 0;
+        for (int e = 0; e < Emotion.COUNT; e++) {
+            int value;
+            if (low) value = random.nextInt(0, 41);
+            else if (random.nextInt(10) < 7) value = EMOTION_EDGES[random.nextInt(EMOTION_EDGES.length)];
+            else value = random.nextInt(0, 101);
+            out.writeByte(value);
+        }
+        out.writeInt(random.nextInt(0, 41));
+        out.writeBoolean(random.nextBoolean());
+        out.writeByte(random.nextInt(-1, Action.values().length));
+        return bytes.toByteArray();
+    }
+
+    /** 사용법: java core.RuleGoldenCheck [check|write] [기준 파일] */
+    public static void main(String[] args) throws IOException {
+        String mode = args.length > 0 ? args[0] : "check";
+        Path file = Paths.get(args.length > 1 ? args[1] : DEFAULT_FILE);
+
+        if (mode.equals("write")) {
+            List<String> lines = write();
+            Path dir = file.toAbsolutePath().getParent();
+            if (dir != null) Files.createDirectories(dir);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            System.out.println("기준 파일 작성: " + file + " (" + (lines.size() - 1) + "건)");
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        List<String> mismatches = check(lines);
+        System.out.println("비교 " + (lines.size() - 1) + "건, 불일치 " + mismatches.size() + "건");
+        for (int i = 0; i < Math.min(10, mismatches.size()); i++) System.out.println(mismatches.get(i));
+        if (!mismatches.isEmpty()) System.exit(1);
+    }
+}
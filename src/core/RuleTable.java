@@ -0,0 +1,658 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import exceptions.BeanEvents;
+import exceptions.EventType;
+
+/**
+ * 행동 후 특수 상태 규칙(rules.csv)을 평평한 배열로 컴파일한 결정 테이블.
+ * <p>규칙은 단계(stage)별로 묶입니다. 한 단계의 조건은 모두 단계 시작 시점의 값으로 한꺼번에 평가되어
+ * 일치한 규칙이 비트 마스크로 모이고, 그다음 일치한 규칙의 효과가 행 순서대로 적용됩니다.
+ * 앞 규칙의 효과를 보고 판단해야 하는 규칙은 다음 단계에 둡니다.</p>
+ *
+ * <pre>
+ * 조건: 항목을 &amp; 로 연결 (모두 만족), 항목 안의 대안은 | 로 연결 (하나라도 만족), 비어 있으면 항상 참
+ *   HAPPY&lt;=10, ENERGY&lt;25, AVG&lt;=20   감정 이름 / ENERGY / AVG(감정 평균) 와 &lt;= &lt; &gt;= &gt; = != 비교
+ *   ACTIONS%10                       누적 행동 수가 0보다 크고 10의 배수
+ *   HEALED=0, LAST=rest              직전 치료 여부, 마지막 행동
+ * 효과: | 로 연결
+ *   HAPPY:+10       감정 변화 (0~100 범위 제한)
+ *   ENERGY:-15      에너지 변화 (0~100 범위 제한, 0 아래로 내려가면 에너지 고갈 이벤트)
+ *   ENERGY_RAW:+3   에너지 변화 (범위 보정 없이)
+ *   ENERGY_CLAMP    에너지를 0~100 으로 보정
+ * </pre>
+ */
+public final class RuleTable {
+
+    // ==============================
+    // 조건 변수 (감정은 ordinal 그대로 사용)
+    // ==============================
+    public static final int VAR_ENERGY = Emotion.COUNT;
+    public static final int VAR_SUM = VAR_ENERGY + 1;       // AVG 는 합계 비교로 바꿔서 저장
+    public static final int VAR_ACTIONS = VAR_SUM + 1;
+    public static final int VAR_HEALED = VAR_ACTIONS + 1;   // 0 또는 1
+    public static final int VAR_LAST = VAR_HEALED + 1;      // Action ordinal, 없으면 -1
+    public static final int VAR_COUNT = VAR_LAST + 1;
+
+    // ==============================
+    // 효과 대상 (감정은 ordinal 그대로 사용)
+    // ==============================
+    public static final int EFFECT_ENERGY = Emotion.COUNT;
+    public static final int EFFECT_ENERGY_RAW = EFFECT_ENERGY + 1;
+    public static final int EFFECT_ENERGY_CLAMP = EFFECT_ENERGY_RAW + 1;
+
+    /** 한 단계에 둘 수 있는 최대 규칙 수 (일치 결과를 long 비트로 표현) */
+    public static final int MAX_STAGE_RULES = Long.SIZE;
+
+    /** 값마다 마스크를 두는 슬롯 범위의 최대 폭 (더 넓으면 구간을 이진 탐색) */
+    private static final int MAX_LOOKUP_WIDTH = 1024;
+
+
+    private final int[] stageStart;     // [단계 수 + 1] 단계별 첫 규칙 번호
+    private final long[] stageRules;    // [단계 수] 단계의 모든 규칙 비트
+    private final int[] slotStart;      // [단계 수 + 1] 단계별 첫 슬롯 번호
+    private final int[] slots;          // 슬롯 하나당 SLOT_STRIDE 칸 (아래 배치)
+    private final int[] bounds;         // 범위가 넓은 슬롯의 구간 아래 끝 (오름차순, 첫 값은 Integer.MIN_VALUE)
+    private final long[] passMask;      // 슬롯의 값(또는 구간)마다 한 슬롯짜리 조건 항목을 만족하는 규칙 비트 (항목이 없는 규칙 포함)
+    private final long[] clauseHit;     // 슬롯의 값(또는 구간)마다 참이 되는 여러 슬롯짜리 조건 항목 비트
+    private final long[] stageClauses;  // [단계 수] 단계의 여러 슬롯짜리 조건 항목 비트
+    private final int[] clauseStart;    // [단계 수] 단계별 첫 여러 슬롯짜리 조건 항목 번호
+    private final long[] clauseRule;    // 여러 슬롯짜리 조건 항목이 속한 규칙 비트
+    private final int[] effectStart;    // [규칙 수 + 1] 규칙별 첫 효과 번호
+    private final byte[] effectTarget;
+    private final int[] effectValue;
+    private final EventType[] events;
+    private final DialogTemplate[] messages;
+    private final boolean usesLastAction;
+
+    // 슬롯 배열 배치 (한 슬롯을 읽는 데 필요한 값을 연속으로 저장)
+    private static final int SLOT_STRIDE = 6;
+    private static final int SLOT_VAR = 0;      // 읽는 조건 변수
+    private static final int SLOT_MODE = 1;     // 아래 MODE_*
+    private static final int SLOT_MASKS = 2;    // passMask/clauseHit 의 시작 위치
+    private static final int SLOT_LOW = 3;      // 값 범위 [LOW, HIGH] (범위 밖의 값은 양 끝과 같은 마스크), 이진 탐색이면 bounds 위치
+    private static final int SLOT_HIGH = 4;
+    private static final int SLOT_MODULUS = 5;  // ACTIONS%n 슬롯이면 n (값을 배수 여부 0/1 로 바꿔 비교), 아니면 0
+
+    private static final int MODE_VALUE = 0;    // 값마다 마스크
+    private static final int MODE_SEARCH = 1;   // 값마다 마스크를 두기엔 범위가 넓어 구간을 이진 탐색
+    private static final int MODE_MODULUS = 2;  // ACTIONS%n: 배수 여부(0/1)마다 마스크
+
+    private RuleTable(Builder b) {
+        int rules = b.rules.size();
+        stageStart = toArray(b.stageStart, rules);
+        int stages = stageStart.length - 1;
+        effectStart = new int[rules + 1];
+        events = new EventType[rules];
+        messages = new DialogTemplate[rules];
+
+        int effects = 0;
+        for (Rule rule : b.rules) effects += rule.effects.size();
+        effectTarget = new byte[effects];
+        effectValue = new int[effects];
+
+        int e = 0;
+        boolean last = false;
+        for (int r = 0; r < rules; r++) {
+            Rule rule = b.rules.get(r);
+            for (Term term : rule.terms) last |= term.var == VAR_LAST;
+            effectStart[r] = e;
+            for (int[] effect : rule.effects) {
+                effectTarget[e] = (byte) effect[0];
+                effectValue[e] = effect[1];
+                e++;
+            }
+            events[r] = rule.event;
+            messages[r] = rule.message;
+        }
+        effectStart[rules] = e;
+        usesLastAction = last;
+
+        // 단계마다 슬롯별 구간 마스크를 만들어 이어 붙임
+        stageRules = new long[stages];
+        stageClauses = new long[stages];
+        slotStart = new int[stages + 1];
+        clauseStart = new int[stages];
+        List<Slot> slots = new ArrayList<>();
+        List<Long> owners = new ArrayList<>();
+        for (int s = 0; s < stages; s++) {
+            slotStart[s] = slots.size();
+            clauseStart[s] = owners.size();
+            int count = stageStart[s + 1] - stageStart[s];
+            stageRules[s] = count == Long.SIZE ? -1L : (1L << count) - 1;
+            stageClauses[s] = compileStage(b.rules.subList(stageStart[s], stageStart[s + 1]), stageRules[s], slots, owners);
+        }
+        slotStart[stages] = slots.size();
+
+        // 감정/에너지처럼 경계가 좁은 범위에 모인 슬롯은 값마다 마스크를 두어 바로 찾음
+        this.slots = new int[slots.size() * SLOT_STRIDE];
+        List<Integer> wide = new ArrayList<>();
+        List<Long> pass = new ArrayList<>();
+        List<Long> hit = new ArrayList<>();
+        for (int k = 0; k < slots.size(); k++) {
+            Slot slot = slots.get(k);
+            int at = k * SLOT_STRIDE;
+            int n = slot.bounds.size();
+            int low = (n == 1) ? 0 : slot.bounds.get(1) - 1;
+            int high = slot.bounds.get(n - 1);
+            this.slots[at + SLOT_VAR] = slot.var;
+            this.slots[at + SLOT_MODULUS] = slot.modulus;
+            this.slots[at + SLOT_MASKS] = pass.size();
+            if ((long) high - low < MAX_LOOKUP_WIDTH) {
+                this.slots[at + SLOT_MODE] = (slot.modulus != 0) ? MODE_MODULUS : MODE_VALUE;
+                this.slots[at + SLOT_LOW] = low;
+                this.slots[at + SLOT_HIGH] = high;
+                int j = 0;
+                for (int v = low; ; v++) {
+                    while (j + 1 < n && slot.bounds.get(j + 1) <= v) j++;
+                    pass.add(slot.pass.get(j));
+                    hit.add(slot.hit.get(j));
+                    if (v == high) break;
+                }
+            } else {
+                this.slots[at + SLOT_LOW] = wide.size();
+                this.slots[at + SLOT_HIGH] = wide.size() + n - 1;
+                this.slots[at + SLOT_MODE] = MODE_SEARCH;
+                wide.addAll(slot.bounds);
+                pass.addAll(slot.pass);
+                hit.addAll(slot.hit);
+            }
+        }
+        bounds = new int[wide.size()];
+        for (int i = 0; i < bounds.length; i++) bounds[i] = wide.get(i);
+        passMask = new long[pass.size()];
+        clauseHit = new long[hit.size()];
+        for (int i = 0; i < passMask.length; i++) {
+            passMask[i] = pass.get(i);
+            clauseHit[i] = hit.get(i);
+        }
+        clauseRule = new long[owners.size()];
+        for (int k = 0; k < owners.size(); k++) clauseRule[k] = owners.get(k);
+    }
+
+    /**
+     * 한 단계의 규칙을 슬롯별 구간 마스크로 바꿉니다.
+     * <p>조건 항목(| 로 묶인 대안)이 한 슬롯만 보면 그 슬롯의 구간마다 만족 여부가 정해지므로 passMask 에 넣고,
+     * 여러 슬롯을 보면(예: HAPPY&lt;=0|SAD&gt;=100) 항목 번호를 주어 슬롯별로 참이 되는 구간을 clauseHit 에 표시합니다.</p>
+     *
+     * @return 단계의 여러 슬롯짜리 조건 항목 비트
+     */
+    private static long compileStage(List<Rule> rules, long all, List<Slot> slots, List<Long> owners) {
+        int first = slots.size();
+        int firstClause = owners.size();
+        List<Clause> clauses = new ArrayList<>();
+        for (int r = 0; r < rules.size(); r++) {
+            Clause clause = null;
+            for (Term term : rules.get(r).terms) {
+                if (clause == null) clause = new Clause(1L << r);
+                Slot slot = slot(slots, first, term);
+                clause.terms.add(term);
+                clause.slots.add(slot);
+                if (!term.or) {
+                    clauses.add(clause);
+                    clause = null;
+                }
+            }
+        }
+
+        for (Clause clause : clauses) {
+            Slot only = clause.slots.get(0);
+            for (Slot slot : clause.slots) {
+                if (slot != only) {
+                    only = null;
+                    break;
+                }
+            }
+            if (only == null) {
+                if (owners.size() - firstClause == Long.SIZE) {
+                    throw new IllegalArgumentException("한 단계에서 여러 변수를 보는 조건 항목은 " + Long.SIZE + "개까지입니다");
+                }
+                clause.bit = 1L << (owners.size() - firstClause);
+                owners.add(clause.rule);
+            }
+            for (int t = 0; t < clause.terms.size(); t++) {
+                Slot slot = clause.slots.get(t);
+                Term literal = slot.literal(clause.terms.get(t));
+                if (literal.low != Integer.MIN_VALUE) slot.cuts.add(literal.low);
+                if (literal.high != Integer.MAX_VALUE) slot.cuts.add(literal.high + 1);
+            }
+        }
+
+        for (int k = first; k < slots.size(); k++) {
+            Slot slot = slots.get(k);
+            for (int bound : slot.cuts) {
+                long pass = all;
+                long hit = 0;
+                for (Clause clause : clauses) {
+                    boolean any = false;
+                    boolean touches = false;
+                    for (int t = 0; t < clause.terms.size(); t++) {
+                        if (clause.slots.get(t) != slot) continue;
+                        touches = true;
+                        any |= slot.literal(clause.terms.get(t)).holds(bound);
+                    }
+                    if (!touches) continue;
+                    if (clause.bit == 0) {
+                        if (!any) pass &= ~clause.rule;
+                    } else if (any) {
+                        hit |= clause.bit;
+                    }
+                }
+                // 이웃 구간과 결과가 같으면 합침
+                int n = slot.bounds.size();
+                if (n > 0 && slot.pass.get(n - 1) == pass && slot.hit.get(n - 1) == hit) continue;
+                slot.bounds.add(bound);
+                slot.pass.add(pass);
+                slot.hit.add(hit);
+            }
+        }
+
+        long multi = 0;
+        for (int k = firstClause; k < owners.size(); k++) multi |= 1L << (k - firstClause);
+        return multi;
+    }
+
+    /** 단계 안에서 항목이 읽는 슬롯 (없으면 새로 만듦) */
+    private static Slot slot(List<Slot> slots, int first, Term term) {
+        for (int k = first; k < slots.size(); k++) {
+            Slot slot = slots.get(k);
+            if (slot.var == term.var && slot.modulus == term.modulus) return slot;
+        }
+        Slot slot = new Slot(term.var, term.modulus);
+        slots.add(slot);
+        return slot;
+    }
+
+    // ==============================
+    // 평가
+    // ==============================
+
+    /**
+     * 한 단계의 조건을 모두 평가합니다.
+     * <p>단계가 읽는 변수(슬롯)마다 값이 속한 구간을 찾아 그 구간의 규칙 마스크를 AND 하므로,
+     * 비용은 규칙이나 조건 항목 수가 아니라 슬롯 수에 비례하며 값에 따른 분기가 없습니다.</p>
+     *
+     * @param stage 단계 번호
+     * @param vars  조건 변수 값 ([{@link #VAR_COUNT}], 감정 → ordinal 위치)
+     * @return 일치한 규칙의 비트 마스크 (비트 i = 단계의 i 번째 규칙)
+     */
+    public long match(int stage, int[] vars) {
+        long mask = stageRules[stage];
+        long hits = 0;
+        int end = slotStart[stage + 1] * SLOT_STRIDE;
+        for (int k = slotStart[stage] * SLOT_STRIDE; k < end; k += SLOT_STRIDE) {
+            int value = vars[slots[k + SLOT_VAR]];
+            int low = slots[k + SLOT_LOW];
+            int i = slots[k + SLOT_MASKS] + (slots[k + SLOT_MODE] == MODE_VALUE
+                    ? Math.min(Math.max(value, low), slots[k + SLOT_HIGH]) - low
+                    : offset(k, value));
+            mask &= passMask[i];
+            hits |= clauseHit[i];
+        }
+
+        // 어느 슬롯에서도 참이 되지 않은 여러 슬롯짜리 조건 항목의 규칙을 제외
+        int base = clauseStart[stage];
+        for (long missed = stageClauses[stage] & ~hits; missed != 0 && mask != 0; missed &= missed - 1) {
+            mask &= ~clauseRule[base + Long.numberOfTrailingZeros(missed)];
+        }
+        return mask;
+    }
+
+    /** 값마다 마스크를 두지 않은 슬롯에서 value 의 마스크 위치 (SLOT_MASKS 기준) */
+    private int offset(int slot, int value) {
+        int low = slots[slot + SLOT_LOW];
+        int high = slots[slot + SLOT_HIGH];
+        if (slots[slot + SLOT_MODE] == MODE_MODULUS) {
+            int modulus = slots[slot + SLOT_MODULUS];
+            value = value > 0 && value % modulus == 0 ? 1 : 0;
+            return Math.min(Math.max(value, low), high) - low;
+        }
+
+        // bounds[low..high] 에서 아래 끝이 value 이하인 마지막 구간 (bounds[low] 는 Integer.MIN_VALUE)
+        int lo = low;
+        int hi = high;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (bounds[mid] <= value) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo - low;
+    }
+
+    /** 규칙 실행 중 발생하는 출력과 이벤트를 받는 쪽 */
+    public interface Listener {
+
+        /** 일치한 규칙의 대사 (효과 적용 전에 호출) */
+        void message(DialogTemplate message);
+
+        /** 규칙 또는 에너지 고갈로 발생한 이벤트 */
+        void event(EventType type);
+    }
+
+    /**
+     * 모든 단계를 순서대로 실행합니다. 효과는 조건 변수 배열에 바로 반영되므로,
+     * 호출한 쪽은 실행 전에 값을 채우고 실행 후에 감정/에너지를 되돌려 쓰면 됩니다.
+     *
+     * @param vars     조건 변수 ([{@link #VAR_COUNT}], 감정 → ordinal 위치, 합계 포함)
+     * @param listener 대사/이벤트 수신자
+     */
+    public void execute(int[] vars, Listener listener) {
+        for (int s = 0; s < stageCount(); s++) {
+            long mask = match(s, vars);
+            for (; mask != 0; mask &= mask - 1) {
+                int rule = stageStart[s] + Long.numberOfTrailingZeros(mask);
+                if (messages[rule] != null) listener.message(messages[rule]);
+                applyEffects(rule, vars, listener);
+                if (events[rule] != null) listener.event(events[rule]);
+            }
+        }
+    }
+
+    private void applyEffects(int rule, int[] vars, Listener listener) {
+        for (int e = effectStart[rule]; e < effectStart[rule + 1]; e++) {
+            int target = effectTarget[e];
+            int value = effectValue[e];
+            if (target < Emotion.COUNT) {
+                // Beans.changeEmotion 과 같음 (합계도 함께 갱신)
+                int before = vars[target];
+                int after = Math.max(EmotionState.MIN, Math.min(EmotionState.MAX, before + value));
+                vars[target] = after;
+                vars[VAR_SUM] += after - before;
+            } else if (target == EFFECT_ENERGY) {
+                // Beans.changeEnergy 와 같음
+                int after = vars[VAR_ENERGY] + value;
+                if (after > 100) {
+                    vars[VAR_ENERGY] = 100;
+                } else if (after < 0) {
+                    vars[VAR_ENERGY] = 0;
+                    listener.event(EventType.ENERGY_DEPLETED);
+                } else {
+                    vars[VAR_ENERGY] = after;
+                }
+            } else if (target == EFFECT_ENERGY_RAW) {
+                vars[VAR_ENERGY] += value;
+            } else {
+                vars[VAR_ENERGY] = Math.max(0, Math.min(100, vars[VAR_ENERGY]));
+            }
+        }
+    }
+
+    /**
+     * 콩 한 마리에게 규칙을 적용할 때 쓰는 조건 변수 배열과 수신자.
+     * <p>콩마다 한 번 만들어 두고({@link Beans#checkSpecialConditions}) 매 행동마다 다시 쓰므로 규칙 적용 중 할당이 없습니다.</p>
+     */
+    static final class Context implements Listener {
+
+        private final RuleTable table;
+        private final Beans bean;
+        private final int[] vars = new int[VAR_COUNT];
+
+        Context(RuleTable table, Beans bean) {
+            this.table = table;
+            this.bean = bean;
+        }
+
+        /** 콩에게 모든 단계를 적용합니다. (Beans.checkSpecialConditions) */
+        void apply() {
+            for (int i = 0; i < Emotion.COUNT; i++) vars[i] = bean.emotions.get(i);
+            vars[VAR_ENERGY] = bean.energy;
+            vars[VAR_SUM] = bean.emotions.sum();
+            vars[VAR_ACTIONS] = bean.actionsCount;
+            vars[VAR_HEALED] = bean.recentlyHealed ? 1 : 0;
+            if (table.usesLastAction) {
+                Action last = Action.fromKey(bean.lastAction);
+                vars[VAR_LAST] = (last == null) ? -1 : last.ordinal();
+            }
+
+            table.execute(vars, this);
+
+            for (int i = 0; i < Emotion.COUNT; i++) bean.emotions.set(Emotion.byOrdinal(i), vars[i]);
+            bean.energy = vars[VAR_ENERGY];
+        }
+
+        @Override
+        public void message(DialogTemplate message) {
+            if (bean.hasMessageSink()) bean.say(message.render(bean.name));
+        }
+
+        @Override
+        public void event(EventType type) {
+            bean.fire(BeanEvents.of(type));
+        }
+    }
+
+    /** 콩 한 마리의 규칙 적용 상태를 만듭니다. */
+    Context context(Beans bean) {
+        return new Context(this, bean);
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    public int stageCount() { return stageStart.length - 1; }
+    public int ruleCount() { return events.length; }
+
+    private static int[] toArray(List<Integer> starts, int end) {
+        int[] array = new int[starts.size() + 1];
+        for (int i = 0; i < starts.size(); i++) array[i] = starts.get(i);
+        array[starts.size()] = end;
+        return array;
+    }
+
+    // ==============================
+    // 컴파일
+    // ==============================
+
+    /** 규칙 행을 순서대로 받아 테이블을 만드는 빌더 */
+    public static final class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+        private final List<Integer> stageStart = new ArrayList<>();
+        private String stage;
+
+        /**
+         * 규칙 한 행을 추가합니다. 단계 이름이 바로 앞 행과 다르면 새 단계가 시작됩니다.
+         *
+         * @param stage     단계 이름 (예: "common:1")
+         * @param condition 조건 (비어 있으면 항상 참)
+         * @param effects   효과 (비어 있으면 없음)
+         * @param event     발생시킬 {@link EventType} 이름 (비어 있으면 없음)
+         * @param message   출력할 대사 ({name} 사용 가능, 비어 있으면 없음)
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public Builder add(String stage, String condition, String effects, String event, String message) {
+            Rule rule = new Rule();
+            parseCondition(condition, rule.terms);
+            parseEffects(effects, rule.effects);
+            rule.event = isBlank(event) ? null : EventType.valueOf(event.trim());
+            rule.message = isBlank(message) ? null : DialogTemplate.compile(message);
+
+            if (!stage.equals(this.stage)) {
+                this.stage = stage;
+                stageStart.add(rules.size());
+            } else if (rules.size() - stageStart.get(stageStart.size() - 1) == MAX_STAGE_RULES) {
+                throw new IllegalArgumentException("한 단계의 규칙은 " + MAX_STAGE_RULES + "개까지입니다: " + stage);
+            }
+            rules.add(rule);
+            return this;
+        }
+
+        public RuleTable build() {
+            return new RuleTable(this);
+        }
+
+        private static void parseCondition(String condition, List<Term> out) {
+            if (isBlank(condition)) return;
+            for (String clause : condition.split("&")) {
+                String[] alternatives = clause.split("\\|");
+                for (int i = 0; i < alternatives.length; i++) {
+                    Term term = parseTerm(alternatives[i].trim());
+                    term.or = i < alternatives.length - 1;
+                    out.add(term);
+                }
+            }
+        }
+
+        private static Term parseTerm(String text) {
+            Term term = new Term();
+            int mod = text.indexOf('%');
+            if (mod > 0) {
+                requireName(text.substring(0, mod), "ACTIONS");
+                term.var = VAR_ACTIONS;
+                term.modulus = Integer.parseInt(text.substring(mod + 1).trim());
+                if (term.modulus <= 0) throw new IllegalArgumentException("배수는 1 이상이어야 합니다: " + text);
+                return term;
+            }
+
+            int at = 0;
+            while (at < text.length() && "<>=!".indexOf(text.charAt(at)) < 0) at++;
+            int end = at;
+            while (end < text.length() && "<>=!".indexOf(text.charAt(end)) >= 0) end++;
+            if (at == 0 || at == end) throw new IllegalArgumentException("조건 형식 오류: " + text);
+
+            String name = text.substring(0, at).trim();
+            String operand = text.substring(end).trim().replace("+", "");
+            int value;
+            switch (name) {
+                case "ENERGY":
+                    term.var = VAR_ENERGY;
+                    value = Integer.parseInt(operand);
+                    break;
+                case "AVG":
+                    // 평균 비교는 합계 비교와 같음 (정수 기준값 x 에 대해 평균 <= x ⇔ 합계 <= x * 감정 수)
+                    term.var = VAR_SUM;
+                    value = Integer.parseInt(operand) * Emotion.COUNT;
+                    break;
+                case "ACTIONS":
+                    term.var = VAR_ACTIONS;
+                    value = Integer.parseInt(operand);
+                    break;
+                case "HEALED":
+                    term.var = VAR_HEALED;
+                    value = parseFlag(operand);
+                    break;
+                case "LAST": {
+                    Action action = Action.fromKey(operand);
+                    if (action == null) throw new IllegalArgumentException("알 수 없는 행동: " + operand);
+                    term.var = VAR_LAST;
+                    value = action.ordinal();
+                    break;
+                }
+                default:
+                    term.var = Emotion.valueOf(name).ordinal();
+                    value = Integer.parseInt(operand);
+            }
+
+            // 비교 연산을 [low, high] 구간으로 변환
+            switch (text.substring(at, end)) {
+                case "<=": term.high = value; break;
+                case "<":  term.high = value - 1; break;
+                case ">=": term.low = value; break;
+                case ">":  term.low = value + 1; break;
+                case "=":  term.low = value; term.high = value; break;
+                case "!=": term.low = value; term.high = value; term.negate = true; break;
+                default: throw new IllegalArgumentException("알 수 없는 비교 연산자: " + text);
+            }
+            return term;
+        }
+
+        private static void parseEffects(String effects, List<int[]> out) {
+            if (isBlank(effects)) return;
+            for (String token : effects.split("\\|")) {
+                String[] parts = token.split(":");
+                String name = parts[0].trim();
+                if (name.equals("ENERGY_CLAMP")) {
+                    out.add(new int[]{EFFECT_ENERGY_CLAMP, 0});
+                    continue;
+                }
+                if (parts.length < 2) throw new IllegalArgumentException("효과 형식 오류: " + token);
+
+                int value = Integer.parseInt(parts[1].replace("+", "").trim());
+                switch (name) {
+                    case "ENERGY":     out.add(new int[]{EFFECT_ENERGY, value}); break;
+                    case "ENERGY_RAW": out.add(new int[]{EFFECT_ENERGY_RAW, value}); break;
+                    default:           out.add(new int[]{Emotion.valueOf(name).ordinal(), value});
+                }
+            }
+        }
+
+        private static int parseFlag(String text) {
+            switch (text) {
+                case "1": case "true":  return 1;
+                case "0": case "false": return 0;
+                default: throw new IllegalArgumentException("0 또는 1 이어야 합니다: " + text);
+            }
+        }
+
+        private static void requireName(String name, String expected) {
+            if (!name.trim().equals(expected)) throw new IllegalArgumentException("% 는 " + expected + " 에만 쓸 수 있습니다: " + name);
+        }
+
+        private static boolean isBlank(String s) {
+            return s == null || s.isBlank();
+        }
+    }
+
+    /** 컴파일 중의 규칙 한 행 */
+    private static final class Rule {
+        final List<Term> terms = new ArrayList<>();
+        final List<int[]> effects = new ArrayList<>();
+        EventType event;
+        DialogTemplate message;
+    }
+
+    /** 컴파일 중의 | 로 묶인 조건 항목 (모두 같은 규칙) */
+    private static final class Clause {
+        final List<Term> terms = new ArrayList<>();
+        final List<Slot> slots = new ArrayList<>();
+        final long rule;    // 항목이 속한 규칙 비트
+        long bit;           // 여러 슬롯짜리 항목이면 단계 안의 항목 비트, 아니면 0
+
+        Clause(long rule) {
+            this.rule = rule;
+        }
+    }
+
+    /** 컴파일 중의 슬롯 하나 (변수, 또는 ACTIONS%n 의 배수 여부) */
+    private static final class Slot {
+        final int var;
+        final int modulus;
+        final TreeSet<Integer> cuts = new TreeSet<>(List.of(Integer.MIN_VALUE));
+        final List<Integer> bounds = new ArrayList<>();
+        final List<Long> pass = new ArrayList<>();
+        final List<Long> hit = new ArrayList<>();
+
+        Slot(int var, int modulus) {
+            this.var = var;
+            this.modulus = modulus;
+        }
+
+        /** 슬롯 값 기준의 구간 (ACTIONS%n 은 배수 여부가 1 인 구간) */
+        Term literal(Term term) {
+            if (modulus == 0) return term;
+            Term literal = new Term();
+            literal.low = 1;
+            literal.high = 1;
+            literal.negate = term.negate;
+            return literal;
+        }
+    }
+
+    /** 컴파일 중의 조건 항목 하나 */
+    private static final class Term {
+        int var;
+        int low = Integer.MIN_VALUE;
+        int high = Integer.MAX_VALUE;
+        boolean negate;
+        int modulus;
+        boolean or;
+
+        boolean holds(int value) {
+            return (low <= value && value <= high) ^ negate;
+        }
+    }
+}
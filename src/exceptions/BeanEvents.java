@@ -3,22 +3,45 @@ package exceptions;
 /**
  * 게임 내 '상태 변화 이벤트'를 나타내는 클래스.
  * <p>오류가 아닌, 감정/상태 변화 등 게임 내 자연스러운 이벤트를 전달합니다.</p>
+ * <p>이벤트는 던지지 않고 {@code Beans}에 등록된 리스너로 바로 전달됩니다.
+ * 종류별로 미리 만들어 둔 상수를 재사용하며 스택 트레이스도 기록하지 않으므로,
+ * 이벤트가 발생해도 객체 생성 비용이 없습니다.</p>
  */
 public class BeanEvents extends RuntimeException {
-    public BeanEvents(String message) { super(message); }
+
+    private static final BeanEvents[] CONSTANTS = new BeanEvents[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            CONSTANTS[type.ordinal()] = new BeanEvents(type);
+        }
+    }
+
+    private final EventType type;
+
+    private BeanEvents(EventType type) {
+        super(type.getMessage(), null, false, false);
+        this.type = type;
+    }
+
+    /** 이벤트 종류 */
+    public EventType getType() { return type; }
+
+    /** 종류에 해당하는 이벤트 상수 */
+    public static BeanEvents of(EventType type) { return CONSTANTS[type.ordinal()]; }
 
     // === 기본 에너지 이벤트 ===
-    public static BeanEvents energyDepleted(int v) { return new BeanEvents("에너지가 고갈되었습니다 (" + v + ")"); }
+    public static BeanEvents energyDepleted() { return of(EventType.ENERGY_DEPLETED); }
 
     // === 감정/상태 이벤트 ===
-    public static BeanEvents beanFainted() { return new BeanEvents("기절했습니다. 치료가 필요합니다!"); }
-    public static BeanEvents beanRanAway() { return new BeanEvents("신뢰를 잃고 집을 나가버렸습니다..."); }
-    public static BeanEvents beanDepressed() { return new BeanEvents("너무 우울해요... 기분 전환이 필요합니다."); }
-    public static BeanEvents beanNauseous() { return new BeanEvents("공포로 인해 메스꺼움을 느낍니다..."); }
-    public static BeanEvents beanAngry() { return new BeanEvents("화가 잔뜩 났습니다!"); }
-    public static BeanEvents beanInsomnia() { return new BeanEvents("스트레스로 잠들지 못했습니다."); }
-    public static BeanEvents beanLoveful() { return new BeanEvents("사랑이 가득합니다!"); }
-    public static BeanEvents beanExhausted() { return new BeanEvents("기운이 빠져 있습니다."); }
-    public static BeanEvents beanGrowth() { return new BeanEvents("키가 조금 자랐습니다!"); }
-    public static BeanEvents beanSick() { return new BeanEvents("몸 상태가 나빠지고 있습니다."); }
+    public static BeanEvents beanFainted() { return of(EventType.FAINTED); }
+    public static BeanEvents beanRanAway() { return of(EventType.RAN_AWAY); }
+    public static BeanEvents beanDepressed() { return of(EventType.DEPRESSED); }
+    public static BeanEvents beanNauseous() { return of(EventType.NAUSEOUS); }
+    public static BeanEvents beanAngry() { return of(EventType.ANGRY); }
+    public static BeanEvents beanInsomnia() { return of(EventType.INSOMNIA); }
+    public static BeanEvents beanLoveful() { return of(EventType.LOVEFUL); }
+    public static BeanEvents beanExhausted() { return of(EventType.EXHAUSTED); }
+    public static BeanEvents beanGrowth() { return of(EventType.GROWTH); }
+    public static BeanEvents beanSick() { return of(EventType.SICK); }
 }
@@ -0,0 +1,28 @@
+package exceptions;
+
+/**
+ * 게임 내 상태 변화 이벤트의 종류를 정의하는 enum 입니다.
+ * 각 종류는 화면에 표시할 기본 메시지를 가집니다.
+ */
+public enum EventType {
+    ENERGY_DEPLETED("에너지가 고갈되었습니다."),
+    FAINTED("기절했습니다. 치료가 필요합니다!"),
+    RAN_AWAY("신뢰를 잃고 집을 나가버렸습니다..."),
+    DEPRESSED("너무 우울해요... 기분 전환이 필요합니다."),
+    NAUSEOUS("공포로 인해 메스꺼움을 느낍니다..."),
+    ANGRY("화가 잔뜩 났습니다!"),
+    INSOMNIA("스트레스로 잠들지 못했습니다."),
+    LOVEFUL("사랑이 가득합니다!"),
+    EXHAUSTED("기운이 빠져 있습니다."),
+    GROWTH("키가 조금 자랐습니다!"),
+    SICK("몸 상태가 나빠지고 있습니다.");
+
+    private final String message;
+
+    EventType(String message) {
+        this.message = message;
+    }
+
+    /** 이벤트 메시지 */
+    public String getMessage() { return message; }
+}
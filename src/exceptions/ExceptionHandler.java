@@ -1,23 +1,33 @@
 package exceptions;
 
-public class ExceptionHandler {
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import metrics.Metrics;
+import output.Output;
 
-    private static final String RED = "\u001B[31m";
-    private static final String YELLOW = "\u001B[33m";
-    private static final String RESET = "\u001B[0m";
+public class ExceptionHandler {
 
     public static void handle(Exception e) {
         if (e instanceof BeanEvents) {
-            System.out.println(YELLOW + e.getMessage() + RESET);
+            Output.event(e.getMessage());
             return;
         }
+        Metrics.error();
         if (e instanceof BeanException) {
-            System.err.println(RED + "[오류] " + e.getMessage() + RESET);
-            if (e.getCause() != null) e.getCause().printStackTrace();
+            Output.error("[오류] " + e.getMessage());
+            if (e.getCause() != null) Output.error(stackTrace(e.getCause()));
             return;
         }
 
-        System.err.println(RED + "[시스템 예외] " + e.getMessage() + RESET);
-        e.printStackTrace();
+        Output.error("[시스템 예외] " + e.getMessage());
+        Output.error(stackTrace(e));
+    }
+
+    /** 스택 트레이스를 문자열로 (출력 순서를 다른 메시지와 맞추기 위해 출력 창구로 보냄) */
+    private static String stackTrace(Throwable t) {
+        StringWriter sw = new StringWriter();
+        t.printStackTrace(new PrintWriter(sw));
+        return sw.toString().stripTrailing();
     }
 }
@@ -0,0 +1,146 @@
+package game;
+
+import java.io.IOException;
+import java.util.EnumMap;
+
+import core.Emotion;
+import core.EmotionState;
+import core.Personality;
+import core.PersonalityRegistry;
+import exceptions.BeanException;
+import exceptions.ExceptionHandler;
+import utils.CsvReader;
+import utils.Utils;
+
+/**
+ * 하루가 끝날 때 성격별로 적용되는 감정 변화량 (decay.csv).
+ * <p>파일 형식은 대사 CSV 의 감정 변화 열과 같습니다. 범위(~)는 쓰지 않고 고정 값만 적습니다.</p>
+ * <pre>
+ * personality,changes
+ * kind,HUNGER:+5|STRESS:+5|MOTIVATION:-5|HAPPY:-3
+ * </pre>
+ * <p>personality 는 {@link PersonalityRegistry}에 등록된 성격 키이며, 파일이 없거나 빠진 성격은 기본값(허기 +5, 긴장 +5, 의욕 -5, 행복 -3)을 사용합니다.</p>
+ */
+public final class DecayProfile {
+
+    public static final String FILE = "decay.csv";
+
+    /** {@link #table(long)}에서 이 횟수 이상은 결과가 같음 (감정 범위 0~100 을 다 지나는 횟수) */
+    public static final int SATURATION_NIGHTS = EmotionState.MAX - EmotionState.MIN;
+
+    private DecayProfile() {}
+
+    /** 처음 사용할 때 한 번만 읽음 */
+    private static final class Holder {
+        static final int[][] TABLE = load(FILE);
+    }
+
+    /**
+     * 성격별 변화량 표를 복사해 반환합니다.
+     *
+     * @return [성격 번호][감정 ordinal] 변화량 (등록되지 않은 번호의 행은 비어 있음)
+     */
+    public static int[][] table() {
+        int[][] copy = new int[Holder.TABLE.length][];
+        for (int type = 0; type < copy.length; type++) copy[type] = Holder.TABLE[type].clone();
+        return copy;
+    }
+
+    /**
+     * nights 번의 밤이 지난 것과 같은 변화량 표를 반환합니다.
+     * <p>하루 끝 변화는 감정마다 고정 값을 더한 뒤 0~100 으로 자르는 것이라, 같은 값을 여러 번 적용하면
+     * 한쪽 경계에만 닿고 그 경계에 머뭅니다. 따라서 n 번 적용한 결과는 변화량 × n 을 한 번 더하고 자른 것과 정확히 같으며,
+     * {@value #SATURATION_NIGHTS}번이면 변화가 있는 감정은 모두 경계에 닿으므로 그 이상은 같은 표를 씁니다.</p>
+     *
+     * @param nights 지난 밤의 수 (0 이상)
+     * @return [성격 번호][감정 ordinal] 변화량
+     */
+    public static int[][] table(long nights) {
+        int scale = scale(nights);
+        int[][] table = table();
+        for (int[] row : table) {
+            for (int e = 0; e < row.length; e++) row[e] *= scale;
+        }
+        return table;
+    }
+
+    /** 성격 번호의 변화량 (공유 배열이므로 수정 금지) */
+    static int[] deltas(int type) {
+        return Holder.TABLE[type];
+    }
+
+    /** 성격 번호의 nights 번 누적 변화량 ({@link #table(long)}과 같은 방식, 새 배열) */
+    static int[] deltas(int type, long nights) {
+        int scale = scale(nights);
+        int[] deltas = Holder.TABLE[type].clone();
+        for (int e = 0; e < deltas.length; e++) deltas[e] *= scale;
+        return deltas;
+    }
+
+    private static int scale(long nights) {
+        if (nights < 0) throw new IllegalArgumentException("지난 밤의 수는 0 이상이어야 합니다: " + nights);
+        return (int) Math.min(nights, SATURATION_NIGHTS);
+    }
+
+    /** 기본 변화량 */
+    static int[] defaults() {
+        int[] deltas = new int[Emotion.COUNT];
+        deltas[Emotion.HUNGER.ordinal()] = +5;
+        deltas[Emotion.STRESS.ordinal()] = +5;
+        deltas[Emotion.MOTIVATION.ordinal()] = -5;
+        deltas[Emotion.HAPPY.ordinal()] = -3;
+        return deltas;
+    }
+
+    private static int[][] load(String fileName) {
+        int[][] table = new int[PersonalityRegistry.maxId() + 1][];
+
+        try {
+            CsvReader.readResource(fileName, true, new CsvReader.Visitor() {
+                private String key;
+                private String changes;
+
+                @Override
+                public void field(int column, byte[] data, int offset, int length) {
+                    if (column == 0) key = CsvReader.text(data, offset, length);
+                    else if (column == 1) changes = CsvReader.text(data, offset, length);
+                }
+
+                @Override
+                public void endRow(int columns) {
+                    Personality personality = PersonalityRegistry.byKey(key);
+                    int type = (personality == null) ? -1 : personality.getId();
+                    if (type < 1 || columns < 2) {
+                        ExceptionHandler.handle(BeanException.beanAction("알 수 없는 감정 감소 행: " + key));
+                    } else {
+                        table[type] = parse(changes);
+                    }
+                    key = null;
+                    changes = null;
+                }
+            });
+        } catch (IOException e) {
+            ExceptionHandler.handle(BeanException.csvLoad(fileName, e));
+        }
+
+        for (int type = 0; type < table.length; type++) {
+            if (table[type] == null) {
+                table[type] = (PersonalityRegistry.byId(type) != null) ? defaults() : new int[Emotion.COUNT];
+            }
+        }
+        return table;
+    }
+
+    private static int[] parse(String changes) {
+        int[] deltas = new int[Emotion.COUNT];
+        EnumMap<Emotion, int[]> ranges = Utils.parseEmotionRanges(changes);
+        ranges.forEach((emotion, range) -> {
+            if (range[0] != range[1]) {
+                ExceptionHandler.handle(BeanException.beanAction(
+                        "감정 감소는 고정 값이어야 합니다. 최소값을 사용합니다: " + emotion.name()));
+            }
+            deltas[emotion.ordinal()] = range[0];
+        });
+        return deltas;
+    }
+}
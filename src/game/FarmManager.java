@@ -1,16 +1,37 @@
 package game;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
 
+import core.Action;
+import core.ActionResult;
 import core.Beans;
-import growBeans.*;
+import core.DialogRegistry;
+import core.Personality;
+import core.PersonalityRegistry;
+import growBeans.PersonalityBean;
+import metrics.Metrics;
+import metrics.SaveEvent;
+import output.AsyncSink;
+import output.Output;
+import output.OutputSink;
+import replay.SessionRecorder;
+import save.ActionJournal;
+import save.SaveCodec;
+import save.SaveData;
 
 /**
  * FarmManager
  * - 콘솔 기반 게임의 메인 흐름을 제어
  * - 자동 저장, 하루 시스템, 성장 및 엔딩 평가, 자동 행동 모드 포함
+ * - 세션마다 시드와 명령을 재현 로그로 남김 ({@link SessionRecorder}, {@code replay.ReplayRunner}로 재실행)
  */
 public class FarmManager {
 
@@ -18,14 +39,59 @@ public class FarmManager {
     private Farmer farmer;
 
     private static final String SAVE_FILE = "save.dat";
-    private static final int TURNS_PER_DAY = 5;
+    /** 마지막 저장 이후의 행동 기록 (비정상 종료 시 복구용) */
+    private static final String JOURNAL_FILE = "save.journal";
+    /** 하루에 수행할 수 있는 행동 횟수 */
+    public static final int TURNS_PER_DAY = 5;
 
-    private int day = 1;
-    private int turnCount = 0;
+    private final GameClock clock = new GameClock();
+
+    private ActionJournal journal;
+    private SessionRecorder recorder;
+
+    /** 불러온 세이브가 마지막으로 기록된 시각 (세이브/저널 파일의 수정 시각, ms) */
+    private long lastPlayed;
+
+    /** 세션의 마스터 시드 (모든 콩의 행동 추첨이 이 시드의 생성기 하나를 이어서 씀) */
+    private final long seed = Long.getLong(SEED_PROPERTY, new SplittableRandom().nextLong());
+    private final SplittableRandom random = new SplittableRandom(seed);
+
+    /** 출력 링 버퍼 크기 (메시지 수) */
+    private static final int OUTPUT_BUFFER_SIZE = 1024;
+
+    /** 대사 CSV 를 실시간으로 다시 읽을 디렉터리를 지정하는 시스템 속성 (예: -Dgrowbean.dialogDir=resources) */
+    public static final String DIALOG_DIR_PROPERTY = "growbean.dialogDir";
+
+    /** 세션 시드를 고정하는 시스템 속성 (예: -Dgrowbean.seed=42) */
+    public static final String SEED_PROPERTY = "growbean.seed";
+
+    /** 재현 로그를 남길 디렉터리를 지정하는 시스템 속성 (기본 replays) */
+    public static final String REPLAY_DIR_PROPERTY = "growbean.replayDir";
+
+    /** 불러올 때 마지막 저장 이후 실제로 지난 날만큼 콩을 진행시키는 시스템 속성 (예: -Dgrowbean.offlineAging=true, 기본 꺼짐) */
+    public static final String OFFLINE_AGING_PROPERTY = "growbean.offlineAging";
 
     /** 프로그램 시작점 */
     public static void main(String[] args) {
-        new FarmManager().start();
+        OutputSink console = Output.setSink(AsyncSink.console(OUTPUT_BUFFER_SIZE));
+        try {
+            Metrics.install();
+            watchDialogDir();
+            new FarmManager().start();
+        } finally {
+            Output.setSink(console).close();
+        }
+    }
+
+    /** 시스템 속성으로 대사 디렉터리가 지정되었으면 감시 시작 (감시 스레드는 데몬이라 종료 시 함께 끝남) */
+    private static void watchDialogDir() {
+        String dir = System.getProperty(DIALOG_DIR_PROPERTY);
+        if (dir == null || dir.isBlank()) return;
+        try {
+            DialogRegistry.watch(new File(dir).toPath());
+        } catch (IOException e) {
+            Output.line("대사 디렉터리를 감시할 수 없습니다: " + e.getMessage());
+        }
     }
 
     /** 게임 시작 */
@@ -34,156 +100,364 @@ public class FarmManager {
 
         File file = new File(SAVE_FILE);
         if (file.exists()) {
-            System.out.print("기존 저장 파일이 있습니다. 불러오시겠습니까? (Y/N): ");
-            String input = sc.nextLine().trim();
+            Output.print("기존 저장 파일이 있습니다. 불러오시겠습니까? (Y/N): ");
+            String input = readLine();
             if (input.equalsIgnoreCase("Y") && loadGame()) {
-                System.out.println("\n세이브 데이터를 불러왔습니다.\n");
+                Output.line("\n세이브 데이터를 불러왔습니다.\n");
+                openJournal();
+                applyOfflineDays();
+                beginSession();
                 gameLoop();
                 return;
             }
         }
 
+        openJournal();
         createNewGame();
         gameLoop();
     }
 
     /** 새 게임 생성 */
     private void createNewGame() {
-        System.out.print("당신의 이름을 입력하세요: ");
-        String farmerName = sc.nextLine().trim();
+        Output.print("당신의 이름을 입력하세요: ");
+        String farmerName = readLine();
 
-        System.out.print("키울 콩의 이름을 정하세요: ");
-        String beanName = sc.nextLine().trim();
+        Output.print("키울 콩의 이름을 정하세요: ");
+        String beanName = readLine();
 
         Beans bean = chooseBeanType(beanName);
         farmer = new Farmer(farmerName, bean);
 
-        day = 1;
-        turnCount = 0;
+        clock.reset();
+        saveGame(); // 저널의 기준이 되는 첫 스냅샷
+        beginSession();
 
-        System.out.println();
-        System.out.println("농부 " + farmerName + "님, " + bean.getName() + "를 잘 키워주세요!");
-        System.out.println();
+        Output.line();
+        Output.line("농부 " + farmerName + "님, " + bean.getName() + "를 잘 키워주세요!");
+        Output.line();
     }
 
     /** 콩의 성격 선택 */
     private Beans chooseBeanType(String beanName) {
         while (true) {
             printLine();
-            System.out.println("콩의 성격을 선택하세요");
-            System.out.println("1. 상냥한 콩");
-            System.out.println("2. 게으른 콩");
-            System.out.println("3. 까칠한 콩");
-            System.out.print("선택: ");
-
-            switch (sc.nextLine().trim()) {
-                case "1": return new KindBean(beanName);
-                case "2": return new LazyBean(beanName);
-                case "3": return new SnappyBean(beanName);
-                default:
-                    System.out.println("잘못된 입력입니다. 다시 선택하세요.\n");
+            Output.line("콩의 성격을 선택하세요");
+            for (Personality personality : PersonalityRegistry.all()) {
+                Output.line(personality.getId() + ". " + personality.getMenuName());
+            }
+            Output.print("선택: ");
+
+            Beans bean = null;
+            try {
+                bean = createBean(Integer.parseInt(readLine()), beanName);
+            } catch (NumberFormatException ignored) {
             }
+            if (bean != null) return bean;
+            Output.line("잘못된 입력입니다. 다시 선택하세요.\n");
         }
     }
 
+    /**
+     * 성격 번호로 콩을 생성합니다. (메뉴 번호와 세이브 파일의 성격 id 로 공용)
+     *
+     * @param type 성격 번호 ({@link PersonalityRegistry}에 등록된 번호, 기본은 1: 상냥한 콩, 2: 게으른 콩, 3: 까칠한 콩)
+     * @param name 콩 이름
+     * @return 생성된 콩, 알 수 없는 번호면 null
+     */
+    public static Beans createBean(int type, String name) {
+        Personality personality = PersonalityRegistry.byId(type);
+        return (personality == null) ? null : new PersonalityBean(name, personality);
+    }
+
+    /** 콩의 성격 번호 ({@link #createBean}의 역방향) */
+    public static int beanType(Beans bean) {
+        if (bean instanceof PersonalityBean) return ((PersonalityBean) bean).getPersonality().getId();
+        throw new IllegalArgumentException("알 수 없는 콩 종류: " + bean.getClass().getName());
+    }
+
     /** 메인 게임 루프 */
     private void gameLoop() {
         while (true) {
             printLine();
-            System.out.println(day + "일차  (턴 " + (turnCount % TURNS_PER_DAY + 1) + "/" + TURNS_PER_DAY + ")");
-            System.out.println("무엇을 하시겠습니까?");
-            System.out.println(
+            Output.line(clock.getDay() + "일차  (턴 " + clock.getTurnOfDay() + "/" + TURNS_PER_DAY + ")");
+            Output.line("무엇을 하시겠습니까?");
+            Output.line(
                 "1. 먹이 주기\t2. 휴식\n" +
                 "3. 놀기\t\t4.치료\n" +
                 "5. 외출\t\t6.일하기\n" +
                 "7. 상태 보기\t8. 종료\n" +
                 "9. 새 게임"
             );
-            System.out.print("선택: ");
+            Output.print("선택: ");
 
-            String input = sc.nextLine().trim();
+            String input = readLine();
 
-            boolean acted = false;
+            Action action = null;
 
             switch (input) {
-                case "1": farmer.feed();  acted = true; break;
-                case "2": farmer.rest();  acted = true; break;
-                case "3": farmer.play();  acted = true; break;
-                case "4": farmer.heal();  acted = true; break;
-                case "5": farmer.goOut(); acted = true; break;
-                case "6": farmer.work();  acted = true; break;
+                case "1": action = Action.EAT;    break;
+                case "2": action = Action.REST;   break;
+                case "3": action = Action.PLAY;   break;
+                case "4": action = Action.HEAL;   break;
+                case "5": action = Action.GO_OUT; break;
+                case "6": action = Action.WORK;   break;
                 case "7": farmer.showStatus(); break;
                 case "8":
                     printLine();
                     saveGame();
-                    System.out.println("게임이 자동으로 저장되었습니다.");
-                    System.out.println("프로그램을 종료합니다.");
+                    closeJournal();
+                    closeRecorder();
+                    Output.line("게임이 자동으로 저장되었습니다.");
+                    Output.line("프로그램을 종료합니다.");
                     return;
                 case "9":
                     printLine();
-                    System.out.print("현재 게임을 초기화하시겠습니까? (Y/N): ");
-                    if (sc.nextLine().trim().equalsIgnoreCase("Y")) {
+                    Output.print("현재 게임을 초기화하시겠습니까? (Y/N): ");
+                    if (readLine().equalsIgnoreCase("Y")) {
                         createNewGame();
                     } else {
-                        System.out.println("초기화를 취소했습니다.\n");
+                        Output.line("초기화를 취소했습니다.\n");
                     }
                     break;
                 default:
-                    System.out.println("잘못된 입력입니다.\n");
+                    Output.line("잘못된 입력입니다.\n");
             }
 
-            if (acted) advanceTime();
+            if (action != null) {
+                ActionResult result = farmer.perform(action);
+                recordAction(action, result);
+                recordReplay(action, result);
+                advanceTime();
+            }
         }
     }
     
     /** 턴 경과 처리 */
     private void advanceTime() {
-        turnCount++;
-        if (turnCount % TURNS_PER_DAY == 0) {
-            day++;
-            endOfDay();
-        }
+        if (clock.advance(farmer.getBean())) endOfDay();
     }
 
-    /** 하루가 끝났을 때의 변화 */
+    /** 하루가 끝났을 때의 안내 (하루 끝 변화는 {@link GameClock#advance}에서 적용됨) */
     private void endOfDay() {
         printLine();
-        System.out.println("하루가 저물었습니다. " + farmer.getBean().getName() + "은(는) 잠이 듭니다...");
-        Beans bean = farmer.getBean();
-        bean.changeEmotion(core.Emotion.HUNGER, +5);
-        bean.changeEmotion(core.Emotion.STRESS, +5);
-        bean.changeEmotion(core.Emotion.MOTIVATION, -5);
-        bean.changeEmotion(core.Emotion.HAPPY, -3);
-        System.out.println("다음 날이 밝았습니다.\n");
+        Output.line("하루가 저물었습니다. " + farmer.getBean().getName() + "은(는) 잠이 듭니다...");
+        Output.line("다음 날이 밝았습니다.\n");
+    }
+
+    /** 하루가 끝날 때 콩에게 적용되는 성격별 감정 변화 ({@link DecayProfile}, 시뮬레이션에서도 공용) */
+    public static void applyNightlyDecay(Beans bean) {
+        applyDeltas(bean, DecayProfile.deltas(beanType(bean)));
+    }
+
+    /**
+     * 아무 행동 없이 nights 번의 밤이 지난 상태로 콩을 한 번에 진행시킵니다.
+     * <p>{@link #applyNightlyDecay}를 nights 번 호출한 것과 결과가 정확히 같으며, 횟수와 무관하게 감정마다 한 번만 계산합니다.
+     * (하루 끝 변화에는 난수가 없고 에너지도 바뀌지 않음, {@link DecayProfile#table(long)})</p>
+     *
+     * @param bean   콩
+     * @param nights 지난 밤의 수 (0 이상)
+     */
+    public static void fastForwardNights(Beans bean, long nights) {
+        applyDeltas(bean, DecayProfile.deltas(beanType(bean), nights));
+    }
+
+    private static void applyDeltas(Beans bean, int[] deltas) {
+        for (int e = 0; e < deltas.length; e++) {
+            if (deltas[e] != 0) bean.changeEmotion(core.Emotion.byOrdinal(e), deltas[e]);
+        }
+    }
+
+    /**
+     * 마지막 기록 이후 실제로 흐른 날만큼 게임 날짜와 콩을 진행시킵니다. ({@link #OFFLINE_AGING_PROPERTY})
+     * 진행한 상태를 바로 저장하므로 저널과 다음 불러오기에서 같은 기간이 다시 적용되지 않습니다.
+     */
+    private void applyOfflineDays() {
+        if (!Boolean.getBoolean(OFFLINE_AGING_PROPERTY)) return;
+        long idle = (lastPlayed <= 0) ? 0 : (System.currentTimeMillis() - lastPlayed) / TimeUnit.DAYS.toMillis(1);
+        if (idle <= 0) return;
+
+        int nights = (int) Math.min(idle, (Integer.MAX_VALUE - clock.getTurnCount()) / TURNS_PER_DAY);
+        clock.skipNights(farmer.getBean(), nights);
+        saveGame();
+        Output.line("자리를 비운 " + nights + "일 동안 " + farmer.getBean().getName() + "은(는) 혼자 지냈습니다.");
     }
 
-    /** 게임 저장 */
+    /**
+     * 게임 저장 (바이너리 스냅샷 형식, 저장 후 저널 비움).
+     * <p>임시 파일에 쓰고 디스크에 반영(fsync)한 뒤 원자적으로 이름을 바꾸므로, 저장 도중 꺼져도 이전 스냅샷이 그대로 남습니다.
+     * 저널은 새 스냅샷이 디스크에 확정된 뒤에만 비웁니다.</p>
+     */
     private void saveGame() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(SAVE_FILE))) {
-            oos.writeObject(farmer);
-            oos.writeInt(day);
-            oos.writeInt(turnCount);
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long start = Metrics.start();
+        File temp = new File(SAVE_FILE + ".tmp");
+        try {
+            int size;
+            try (FileOutputStream file = new FileOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                SaveCodec.write(out, new SaveData(farmer, clock.getDay(), clock.getTurnCount()));
+                out.flush();
+                file.getChannel().force(true);
+                size = out.size();
+            }
+            Files.move(temp.toPath(), new File(SAVE_FILE).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Metrics.save(start, size);
+            event.finish("save", SAVE_FILE, size, true);
+        } catch (IOException e) {
+            event.finish("save", SAVE_FILE, 0, false);
+            Output.line("저장 중 오류: " + e.getMessage());
+            return;
+        }
+
+        if (journal == null) return;
+        try {
+            journal.reset();
+        } catch (IOException e) {
+            Output.line("행동 기록 정리 중 오류: " + e.getMessage());
+        }
+    }
+
+    // ==============================
+    // 행동 저널 (비정상 종료 대비)
+    // ==============================
+
+    /** 저널 열기 (실패해도 게임은 저널 없이 계속 진행) */
+    private void openJournal() {
+        try {
+            journal = ActionJournal.open(new File(JOURNAL_FILE).toPath(), ActionJournal.FsyncPolicy.GROUP, 1);
         } catch (IOException e) {
-            System.out.println("저장 중 오류: " + e.getMessage());
+            Output.line("행동 기록 파일을 열 수 없습니다. 종료 시에만 저장됩니다: " + e.getMessage());
         }
     }
 
-    /** 게임 불러오기 */
+    /** 행동 한 턴을 저널에 기록 (턴 경과 전 기준) */
+    private void recordAction(Action action, ActionResult result) {
+        if (journal == null) return;
+        try {
+            journal.append(action, result, clock.getDay(), clock.getTurnCount());
+        } catch (IOException e) {
+            Output.line("행동 기록 중 오류: " + e.getMessage());
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            Output.line("행동 기록 파일을 닫는 중 오류: " + e.getMessage());
+        }
+        journal = null;
+    }
+
+    // ==============================
+    // 재현 로그 (버그 재현, 회귀 확인)
+    // ==============================
+
+    /** 콩에게 세션 난수 생성기를 연결하고 시작 상태를 재현 로그에 기록 (실패하면 기록 없이 계속 진행) */
+    private void beginSession() {
+        farmer.getBean().setRandom(random);
+        try {
+            if (recorder == null) {
+                String dir = System.getProperty(REPLAY_DIR_PROPERTY, "replays");
+                String name = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".replay";
+                recorder = SessionRecorder.create(new File(dir, name).toPath(), seed);
+                Output.line("[재현 로그] " + recorder.getFile() + " (시드 " + seed + ")");
+            }
+            recorder.start(farmer, clock.getDay(), clock.getTurnCount());
+        } catch (IOException e) {
+            Output.line("재현 로그를 기록할 수 없습니다: " + e.getMessage());
+            recorder = null;
+        }
+    }
+
+    /** 행동 한 턴을 재현 로그에 기록 */
+    private void recordReplay(Action action, ActionResult result) {
+        if (recorder == null) return;
+        try {
+            recorder.action(action, result);
+        } catch (IOException e) {
+            Output.line("재현 로그 기록 중 오류: " + e.getMessage());
+        }
+    }
+
+    private void closeRecorder() {
+        if (recorder == null) return;
+        try {
+            recorder.end(farmer.getBean(), clock.getDay(), clock.getTurnCount());
+            recorder.close();
+        } catch (IOException e) {
+            Output.line("재현 로그를 닫는 중 오류: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /** 스냅샷 이후의 저널 기록을 다시 적용 (저널이 손상되었으면 스냅샷 상태로 진행) */
+    private void recoverJournal() {
+        ActionJournal.Recovery recovery;
+        try {
+            recovery = ActionJournal.recover(new File(JOURNAL_FILE).toPath(), new SaveData(farmer, clock.getDay(), clock.getTurnCount()));
+        } catch (IOException e) {
+            Output.line("행동 기록을 복구하지 못했습니다: " + e.getMessage());
+            return;
+        }
+        if (recovery.getReplayed() == 0) return;
+
+        clock.set(recovery.getData().getDay(), recovery.getData().getTurnCount());
+        Output.line("저장되지 않은 " + recovery.getReplayed() + "개의 행동을 복구했습니다.");
+    }
+
+    /** 게임 불러오기 (이전 직렬화 형식이면 불러온 뒤 새 형식으로 다시 저장) */
     private boolean loadGame() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SAVE_FILE))) {
-            farmer = (Farmer) ois.readObject();
-            day = ois.readInt();
-            turnCount = ois.readInt();
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        File file = new File(SAVE_FILE);
+        lastPlayed = Math.max(file.lastModified(), new File(JOURNAL_FILE).lastModified());
+        try {
+            if (!SaveCodec.isBinary(file)) {
+                loadLegacyGame();
+                event.finish("load", SAVE_FILE, file.length(), true);
+                saveGame();
+                Output.line("이전 형식의 세이브 파일을 새 형식으로 변환했습니다.");
+                return true;
+            }
+
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(SAVE_FILE)))) {
+                SaveData data = SaveCodec.read(in);
+                farmer = data.getFarmer();
+                clock.set(data.getDay(), data.getTurnCount());
+            }
+            event.finish("load", SAVE_FILE, file.length(), true);
+            recoverJournal();
             return true;
         } catch (IOException | ClassNotFoundException e) {
-            System.out.println("불러오기 실패: " + e.getMessage());
+            event.finish("load", SAVE_FILE, 0, false);
+            Output.line("불러오기 실패: " + e.getMessage());
         }
         return false;
     }
 
+    /** 이전 버전(Java 직렬화) 세이브 파일 불러오기 */
+    private void loadLegacyGame() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SAVE_FILE))) {
+            farmer = (Farmer) ois.readObject();
+            int day = ois.readInt();
+            clock.set(day, ois.readInt());
+        }
+    }
+
+    /** 지금까지의 출력을 모두 내보낸 뒤 한 줄 입력 */
+    private String readLine() {
+        Output.flush();
+        return sc.nextLine().trim();
+    }
+
     /** 구분선 출력 */
     private void printLine() {
-        System.out.println("────────────────────────");
+        Output.line("────────────────────────");
     }
 
     /** 잠시 대기 (ms) */
@@ -1,8 +1,12 @@
 package game;
 
 import java.io.Serializable;
+import core.Action;
 import core.ActionResult;
 import core.Beans;
+import metrics.ActionEvent;
+import metrics.Metrics;
+import output.Output;
 
 /**
  * Farmer 클래스
@@ -12,6 +16,9 @@ import core.Beans;
  */
 public class Farmer implements Serializable {
 
+    // 이전 버전 save.dat 호환용 (명시 전 자동 계산되던 값)
+    private static final long serialVersionUID = 761452080397613487L;
+
     private String name;    // 농부 이름
     private Beans bean;     // 현재 키우는 콩 (Beans 하위 객체)
 
@@ -24,29 +31,51 @@ public class Farmer implements Serializable {
     // =============================
     // 행동 명령
     // =============================
-    public void feed()  { perform("eat",   "먹이 주기",  bean.eat());  }
-    public void rest()  { perform("rest",  "휴식",      bean.rest());  }
-    public void play()  { perform("play",  "놀기",      bean.play());  }
-    public void heal()  { perform("heal",  "치료",      bean.heal());  }
-    public void goOut() { perform("goOut", "외출",      bean.goOut()); }
-    public void work()  { perform("work",  "일하기",    bean.work());  }
-
-    // 공통 수행 메서드
-    private void perform(String actionKey, String displayName, ActionResult result) {
-        System.out.println("──────────────────");
-        System.out.println("[행동] " + displayName);
-        System.out.println();
-        bean.applyActionResult(result, actionKey); // ✅ 수정됨!
+    public void feed()  { perform(Action.EAT);    }
+    public void rest()  { perform(Action.REST);   }
+    public void play()  { perform(Action.PLAY);   }
+    public void heal()  { perform(Action.HEAL);   }
+    public void goOut() { perform(Action.GO_OUT); }
+    public void work()  { perform(Action.WORK);   }
+
+    /**
+     * 행동 이름을 출력한 뒤 콩에게 행동을 시키고 결과를 적용합니다.
+     *
+     * @param action 수행할 행동
+     * @return 행동 결과 (CSV 오류 시 null)
+     */
+    public ActionResult perform(Action action) {
+        Output.line("──────────────────");
+        Output.line("[행동] " + action.getDisplayName());
+        Output.line();
+        return act(action);
+    }
+
+    /**
+     * 콩에게 행동을 시키고 결과를 적용합니다. (행동 이름 출력 없이, 측정 기록은 같음)
+     *
+     * @param action 수행할 행동
+     * @return 행동 결과 (CSV 오류 시 null)
+     */
+    public ActionResult act(Action action) {
+        ActionEvent event = new ActionEvent();
+        event.begin();
+        long start = Metrics.start();
+        ActionResult result = bean.act(action);
+        bean.applyActionResult(result, action.getKey());
+        Metrics.action(bean.getPersonality(), action, start);
+        event.finish(bean.getPersonality(), bean.getName(), action, result);
+        return result;
     }
 
     // =============================
     // 상태 출력
     // =============================
     public void showStatus() {
-        System.out.println("──────────────────");
-        System.out.println("농부: " + name);
-        System.out.println("키우는 콩: " + bean.getName() + " (" + bean.getPersonalityName() + ")");
-        System.out.println();
+        Output.line("──────────────────");
+        Output.line("농부: " + name);
+        Output.line("키우는 콩: " + bean.getName() + " (" + bean.getPersonalityName() + ")");
+        Output.line();
         bean.showStatus();
     }
 
@@ -0,0 +1,73 @@
+package game;
+
+import core.Beans;
+
+/**
+ * 게임 날짜(일차)와 누적 턴 수.
+ * <p>하루는 {@link FarmManager#TURNS_PER_DAY} 턴이며, 턴을 넘겨 하루가 끝나면 콩에게 하루 끝 감정 변화
+ * ({@link FarmManager#applyNightlyDecay})를 적용합니다. 콘솔 게임, 서버 세션, 저널 복구, 재현 로그 재실행,
+ * 부하 테스트가 모두 이 클래스로 턴을 넘기므로 날이 바뀌는 규칙은 여기에만 있습니다.</p>
+ */
+public final class GameClock {
+
+    private int day = 1;
+    private int turnCount = 0;
+
+    /** 1일차, 0턴 */
+    public GameClock() {}
+
+    public GameClock(int day, int turnCount) {
+        set(day, turnCount);
+    }
+
+    // ==============================
+    // 진행
+    // ==============================
+
+    /**
+     * 행동 한 번이 끝난 뒤 턴을 넘깁니다.
+     *
+     * @param bean 행동한 콩 (하루가 끝나면 하루 끝 변화 적용)
+     * @return 이 턴으로 하루가 끝났으면 true
+     */
+    public boolean advance(Beans bean) {
+        turnCount++;
+        if (turnCount % FarmManager.TURNS_PER_DAY != 0) return false;
+        day++;
+        FarmManager.applyNightlyDecay(bean);
+        return true;
+    }
+
+    /**
+     * 행동 없이 nights 번의 밤을 한 번에 넘깁니다. ({@link FarmManager#fastForwardNights})
+     *
+     * @param bean   콩
+     * @param nights 지난 밤의 수 (0 이상)
+     */
+    public void skipNights(Beans bean, int nights) {
+        FarmManager.fastForwardNights(bean, nights);
+        day += nights;
+        turnCount += nights * FarmManager.TURNS_PER_DAY;
+    }
+
+    /** 저장된 날짜와 턴 수로 맞춤 */
+    public void set(int day, int turnCount) {
+        this.day = day;
+        this.turnCount = turnCount;
+    }
+
+    /** 새 게임 (1일차, 0턴) */
+    public void reset() {
+        set(1, 0);
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    public int getDay() { return day; }
+    public int getTurnCount() { return turnCount; }
+
+    /** 오늘의 몇 번째 턴인지 (1 ~ {@link FarmManager#TURNS_PER_DAY}) */
+    public int getTurnOfDay() { return turnCount % FarmManager.TURNS_PER_DAY + 1; }
+}
@@ -0,0 +1,87 @@
+package growBeans;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+import core.DialogHandle;
+import core.Personality;
+import core.PersonalityRegistry;
+
+/**
+ * 성격 설명({@link Personality})만으로 동작하는 콩
+ * - 성격마다 하위 클래스를 만들지 않음 (personalities.csv 에 행을 추가)
+ * - 각 행동의 결과는 미리 받아 둔 대사 핸들에서 로드됨 (파일 이름 조회 없음)
+ * - 특수 상태 반응은 rules.csv 의 성격 키 규칙에서 로드됨
+ */
+public class PersonalityBean extends Beans {
+
+    private static final long serialVersionUID = 1L;
+
+    // 성격 키 (설명 객체 대신 키만 저장)
+    private String personalityKey;
+
+    // 성격 설명과 대사 핸들 (처음 사용할 때 키로 찾아 둠)
+    private transient Personality personality;
+    private transient DialogHandle dialog;
+
+    public PersonalityBean(String name, Personality personality) {
+        super(name);
+        this.personalityKey = personality.getKey();
+        this.personality = personality;
+        this.dialog = personality.dialog();
+    }
+
+    /** 성격 키로 생성 (등록되지 않은 키면 BeanException) */
+    public PersonalityBean(String name, String personalityKey) {
+        this(name, PersonalityRegistry.require(personalityKey));
+    }
+
+    // =============================
+    // 행동 정의 (대사 핸들)
+    // =============================
+
+    /** 행동 종류별 메서드를 거치지 않고 대사 테이블에서 바로 뽑음 */
+    @Override
+    public ActionResult act(Action action) {
+        DialogHandle handle = dialog;
+        if (handle == null) dialog = handle = getPersonality().dialog();
+        return dialog(handle, action);
+    }
+
+    @Override public ActionResult eat()   { return act(Action.EAT); }
+    @Override public ActionResult rest()  { return act(Action.REST); }
+    @Override public ActionResult play()  { return act(Action.PLAY); }
+    @Override public ActionResult heal()  { return act(Action.HEAL); }
+    @Override public ActionResult goOut() { return act(Action.GO_OUT); }
+    @Override public ActionResult work()  { return act(Action.WORK); }
+
+    @Override
+    public String getPersonalityName() { return getPersonality().getName(); }
+
+    // =============================
+    // 이벤트 반응 (rules.csv 의 성격 키 규칙)
+    // =============================
+    @Override
+    protected String getRuleScope() { return getPersonality().getKey(); }
+
+    // =============================
+    // 성격
+    // =============================
+
+    /** 이 콩의 성격 설명 */
+    @Override
+    public Personality getPersonality() {
+        Personality p = personality;
+        if (p == null) personality = p = PersonalityRegistry.require(personalityKey);
+        return p;
+    }
+
+    /**
+     * 성격 키가 기록되지 않은 이전 버전 save.dat 을 읽을 때 키를 지정합니다.
+     *
+     * @param key 하위 클래스가 나타내던 성격 키
+     */
+    protected void restorePersonality(String key) {
+        if (personalityKey == null) personalityKey = key;
+    }
+}
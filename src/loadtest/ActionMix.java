@@ -0,0 +1,72 @@
+package loadtest;
+
+import java.util.random.RandomGenerator;
+
+import core.Action;
+
+/**
+ * 부하 생성 시 행동을 고르는 가중치 구성.
+ * <p>"eat:6,rest:1,work:2" 처럼 행동 키와 가중치를 적거나, 미리 정한 이름(balanced, feed-heavy, work-heavy, care)을 씁니다.
+ * 적지 않은 행동의 가중치는 0 입니다.</p>
+ */
+public final class ActionMix {
+
+    private final String name;
+    private final int[] cumulative = new int[Action.values().length];
+
+    private ActionMix(String name, int[] weights) {
+        this.name = name;
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + Action.values()[i].getKey());
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (sum == 0) throw new IllegalArgumentException("가중치가 모두 0 입니다: " + name);
+    }
+
+    /**
+     * 이름이나 "행동키:가중치" 목록으로 구성을 만듭니다.
+     *
+     * @param spec 미리 정한 이름 또는 콤마로 구분한 "행동키:가중치"
+     * @return 행동 구성
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static ActionMix parse(String spec) {
+        switch (spec) {
+            case "balanced":   return parse("balanced", "eat:1,rest:1,play:1,heal:1,goOut:1,work:1");
+            case "feed-heavy": return parse("feed-heavy", "eat:6,rest:1,play:1,heal:1,goOut:1,work:1");
+            case "work-heavy": return parse("work-heavy", "eat:1,rest:1,play:1,heal:1,goOut:1,work:6");
+            case "care":       return parse("care", "eat:3,rest:3,heal:2,play:2");
+            default:           return parse(spec, spec);
+        }
+    }
+
+    private static ActionMix parse(String name, String spec) {
+        int[] weights = new int[Action.values().length];
+        for (String token : spec.split(",")) {
+            String[] parts = token.trim().split(":");
+            Action action = Action.fromKey(parts[0].trim());
+            if (action == null || parts.length != 2) throw new IllegalArgumentException("행동 구성 형식 오류: " + token);
+            weights[action.ordinal()] = Integer.parseInt(parts[1].trim());
+        }
+        return new ActionMix(name, weights);
+    }
+
+    /**
+     * 가중치에 따라 행동 하나를 고릅니다.
+     *
+     * @param rng 난수 생성기
+     * @return 고른 행동
+     */
+    public Action next(RandomGenerator rng) {
+        int pick = rng.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) return Action.values()[i];
+        }
+        throw new IllegalStateException(); // 도달하지 않음
+    }
+
+    @Override
+    public String toString() { return name; }
+}
@@ -0,0 +1,48 @@
+package loadtest;
+
+import java.util.SplittableRandom;
+
+import core.Action;
+import core.Beans;
+import core.Personality;
+import game.FarmManager;
+import game.Farmer;
+import game.GameClock;
+
+/**
+ * 같은 JVM 에서 {@link Farmer#perform}으로 턴을 진행하는 대상.
+ * <p>콘솔 게임과 같은 경로(대사 조립, 출력 창구, 이벤트 처리, 하루 끝 감정 변화)를 그대로 지나므로,
+ * 출력 창구를 {@code OutputSink.NULL} 로 바꿔 두면 입출력을 뺀 게임 루프 비용을 잽니다.</p>
+ */
+public final class InProcessTarget implements LoadTarget {
+
+    private final SplittableRandom master;
+
+    /**
+     * @param seed 플레이어별 난수 생성기를 나눌 마스터 시드
+     */
+    public InProcessTarget(long seed) {
+        this.master = new SplittableRandom(seed);
+    }
+
+    @Override
+    public synchronized Player join(int id, Personality personality) {
+        Beans bean = FarmManager.createBean(personality.getId(), "부하콩" + id);
+        bean.setRandom(master.split());
+        Farmer farmer = new Farmer("부하농부" + id, bean);
+
+        return new Player() {
+            private final GameClock clock = new GameClock();
+
+            @Override
+            public boolean perform(Action action) {
+                boolean ok = farmer.perform(action) != null;
+                clock.advance(bean);
+                return ok;
+            }
+        };
+    }
+
+    @Override
+    public String describe() { return "in-process"; }
+}
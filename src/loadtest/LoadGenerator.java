@@ -0,0 +1,334 @@
+package loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import core.Action;
+import core.Personality;
+import core.PersonalityRegistry;
+import metrics.Metrics;
+import output.Output;
+import output.OutputSink;
+import utils.LatencyHistogram;
+
+/**
+ * 가상 플레이어 N명이 행동 구성({@link ActionMix})에 따라 턴을 보내며 턴 지연 시간을 재는 부하 생성기.
+ * <p>스레드마다 맡은 플레이어들에게 돌아가며 한 턴씩 보내고(응답을 받아야 다음 턴), 지연 시간을
+ * 성격 × 행동별 {@link LatencyHistogram}에 기록합니다. 워밍업 턴은 집계에서 빼며,
+ * 측정 구간의 처리량, p50/p99/p999 와 측정 스레드의 메모리 할당량을 보고합니다.</p>
+ * <p>대상은 같은 JVM 의 게임 루프({@link InProcessTarget}) 또는 소켓 서버({@link SocketTarget})입니다.
+ * 소켓 대상일 때의 할당량은 부하 생성기 쪽 값입니다.</p>
+ */
+public final class LoadGenerator {
+
+    private final LoadTarget target;
+    private int players = 100;
+    private int turns = 100;
+    private int warmup = 20;
+    private int threads = 1;
+    private ActionMix mix = ActionMix.parse("balanced");
+    private long seed = 42L;
+
+    /**
+     * @param target 부하를 걸 대상
+     */
+    public LoadGenerator(LoadTarget target) {
+        this.target = target;
+    }
+
+    // ==============================
+    // 설정
+    // ==============================
+
+    /** 플레이어 수 */
+    public LoadGenerator players(int players) { this.players = players; return this; }
+
+    /** 플레이어마다 측정할 턴 수 */
+    public LoadGenerator turns(int turns) { this.turns = turns; return this; }
+
+    /** 플레이어마다 측정 전에 보낼 턴 수 */
+    public LoadGenerator warmup(int warmup) { this.warmup = warmup; return this; }
+
+    /** 부하를 보내는 스레드 수 (동시에 진행 중인 턴의 최대 수) */
+    public LoadGenerator threads(int threads) { this.threads = threads; return this; }
+
+    /** 행동 구성 */
+    public LoadGenerator mix(ActionMix mix) { this.mix = mix; return this; }
+
+    /** 행동 선택에 쓸 난수 시드 */
+    public LoadGenerator seed(long seed) { this.seed = seed; return this; }
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /**
+     * 모든 플레이어가 워밍업과 측정 턴을 마칠 때까지 부하를 겁니다.
+     *
+     * @return 집계 결과
+     * @throws IOException 대상에 접속하지 못했을 때
+     */
+    public Report run() throws IOException {
+        List<Personality> personalities = PersonalityRegistry.all();
+        int types = PersonalityRegistry.maxId() + 1;
+        int workers = Math.max(1, Math.min(threads, players));
+
+        AtomicLong measureStart = new AtomicLong();
+        CyclicBarrier warmedUp = new CyclicBarrier(workers, () -> measureStart.set(System.nanoTime()));
+        Worker[] work = new Worker[workers];
+        Thread[] running = new Thread[workers];
+        SplittableRandom master = new SplittableRandom(seed);
+
+        for (int w = 0; w < workers; w++) {
+            List<Integer> ids = new ArrayList<>();
+            for (int id = w; id < players; id += workers) ids.add(id);
+            work[w] = new Worker(ids, personalities, types, master.split(), warmedUp);
+            running[w] = new Thread(work[w], "load-" + w);
+            running[w].start();
+        }
+        for (Thread thread : running) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("부하 생성이 중단되었습니다.", e);
+            }
+        }
+        long elapsed = System.nanoTime() - measureStart.get();
+
+        Report report = new Report(target.describe(), players, workers, mix.toString(), types, elapsed);
+        for (Worker worker : work) {
+            if (worker.failure != null) throw worker.failure;
+            report.merge(worker);
+        }
+        return report;
+    }
+
+    /** 부하 스레드 하나가 맡은 플레이어들 */
+    private final class Worker implements Runnable {
+        private final List<Integer> ids;
+        private final List<Personality> personalities;
+        private final SplittableRandom rng;
+        private final CyclicBarrier warmedUp;
+
+        final LatencyHistogram[][] histograms;   // [성격 번호][행동 ordinal]
+        long errors;
+        long allocated = -1;
+        IOException failure;
+
+        Worker(List<Integer> ids, List<Personality> personalities, int types, SplittableRandom rng, CyclicBarrier warmedUp) {
+            this.ids = ids;
+            this.personalities = personalities;
+            this.rng = rng;
+            this.warmedUp = warmedUp;
+            this.histograms = new LatencyHistogram[types][Action.values().length];
+        }
+
+        @Override
+        public void run() {
+            List<LoadTarget.Player> joined = new ArrayList<>();
+            int[] type = new int[ids.size()];
+            try {
+                for (int i = 0; i < ids.size(); i++) {
+                    Personality personality = personalities.get(ids.get(i) % personalities.size());
+                    joined.add(target.join(ids.get(i), personality));
+                    type[i] = personality.getId();
+                }
+
+                for (int t = 0; t < warmup; t++) {
+                    for (LoadTarget.Player player : joined) player.perform(mix.next(rng));
+                }
+                awaitWarmup();
+
+                long allocatedBefore = allocatedBytes();
+                for (int t = 0; t < turns; t++) {
+                    for (int i = 0; i < joined.size(); i++) {
+                        Action action = mix.next(rng);
+                        long start = System.nanoTime();
+                        boolean ok = joined.get(i).perform(action);
+                        long latency = System.nanoTime() - start;
+
+                        if (!ok) errors++;
+                        histogram(type[i], action).record(latency);
+                    }
+                }
+                if (allocatedBefore >= 0) allocated = allocatedBytes() - allocatedBefore;
+            } catch (IOException e) {
+                failure = e;
+                warmedUp.reset(); // 다른 스레드가 기다리지 않도록
+            } finally {
+                for (LoadTarget.Player player : joined) {
+                    try {
+                        player.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        private void awaitWarmup() throws IOException {
+            try {
+                warmedUp.await();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                throw new IOException("다른 부하 스레드가 실패했습니다.", e);
+            }
+        }
+
+        private LatencyHistogram histogram(int type, Action action) {
+            LatencyHistogram h = histograms[type][action.ordinal()];
+            if (h == null) histograms[type][action.ordinal()] = h = new LatencyHistogram();
+            return h;
+        }
+    }
+
+    /** 현재 스레드가 지금까지 할당한 바이트 (JVM 이 지원하지 않으면 -1) */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) bean;
+            if (sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+                return sun.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    // ==============================
+    // 보고서
+    // ==============================
+
+    /** 부하 결과 */
+    public static final class Report {
+        private final String target;
+        private final int players;
+        private final int threads;
+        private final String mix;
+        private final long elapsedNanos;
+
+        private final LatencyHistogram all = new LatencyHistogram();
+        private final LatencyHistogram[][] byType;
+        private long errors;
+        private long allocated;
+        private boolean allocationKnown = true;
+
+        Report(String target, int players, int threads, String mix, int types, long elapsedNanos) {
+            this.target = target;
+            this.players = players;
+            this.threads = threads;
+            this.mix = mix;
+            this.elapsedNanos = elapsedNanos;
+            this.byType = new LatencyHistogram[types][Action.values().length];
+        }
+
+        void merge(Worker worker) {
+            for (int type = 0; type < byType.length; type++) {
+                for (int a = 0; a < byType[type].length; a++) {
+                    LatencyHistogram h = worker.histograms[type][a];
+                    if (h == null) continue;
+                    if (byType[type][a] == null) byType[type][a] = new LatencyHistogram();
+                    byType[type][a].add(h);
+                    all.add(h);
+                }
+            }
+            errors += worker.errors;
+            if (worker.allocated < 0) allocationKnown = false;
+            else allocated += worker.allocated;
+        }
+
+        /** 측정한 턴 수 */
+        public long turns() { return all.count(); }
+
+        /** 대상이 오류로 응답한 턴 수 */
+        public long errors() { return errors; }
+
+        /** 초당 턴 수 */
+        public double throughput() { return all.count() / (elapsedNanos / 1e9); }
+
+        /** 전체 턴 지연 */
+        public LatencyHistogram latency() { return all; }
+
+        /**
+         * 성격 × 행동의 턴 지연
+         *
+         * @return 기록이 없으면 null
+         */
+        public LatencyHistogram latency(int personalityId, Action action) {
+            return byType[personalityId][action.ordinal()];
+        }
+
+        /** 턴당 할당 바이트 (측정할 수 없으면 -1) */
+        public double allocatedPerTurn() {
+            return (allocationKnown && all.count() > 0) ? (double) allocated / all.count() : -1;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("대상 %s, 플레이어 %d, 스레드 %d, 행동 구성 %s%n", target, players, threads, mix));
+            sb.append(String.format("턴 %d (오류 %d), %.0f 턴/초, %.2f초%n", turns(), errors, throughput(), elapsedNanos / 1e9));
+            if (allocatedPerTurn() >= 0) {
+                sb.append(String.format("할당 %.0f B/턴 (%.1f MB/초)%n",
+                        allocatedPerTurn(), allocated / (elapsedNanos / 1e9) / (1024 * 1024)));
+            }
+            sb.append(String.format("%-14s %9s %9s %9s %9s %9s%n", "(us)", "count", "p50", "p99", "p999", "max"));
+            row(sb, "전체", all);
+            for (int type = 0; type < byType.length; type++) {
+                Personality personality = PersonalityRegistry.byId(type);
+                for (Action action : Action.values()) {
+                    LatencyHistogram h = byType[type][action.ordinal()];
+                    if (h != null) row(sb, (personality == null ? type : personality.getKey()) + "/" + action.getKey(), h);
+                }
+            }
+            return sb.toString();
+        }
+
+        private static void row(StringBuilder sb, String label, LatencyHistogram h) {
+            sb.append(String.format("%-14s %9d %9.1f %9.1f %9.1f %9.1f%n", label, h.count(),
+                    h.percentile(50) / 1e3, h.percentile(99) / 1e3, h.percentile(99.9) / 1e3, h.max() / 1e3));
+        }
+    }
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /**
+     * 사용법: java loadtest.LoadGenerator [대상] [플레이어 수] [턴 수] [스레드 수] [행동 구성] [워밍업 턴 수]
+     * <p>대상은 {@code inproc}(기본) 또는 {@code 호스트:포트}, 행동 구성은 이름 또는 "eat:6,work:1" 형식입니다.</p>
+     */
+    public static void main(String[] args) throws IOException {
+        String where = args.length > 0 ? args[0] : "inproc";
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int turns = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        ActionMix mix = ActionMix.parse(args.length > 4 ? args[4] : "balanced");
+        int warmup = args.length > 5 ? Integer.parseInt(args[5]) : 20;
+
+        LoadTarget target;
+        if (where.equals("inproc")) {
+            // 콘솔 출력 비용을 빼고 게임 루프만 측정
+            Output.setSink(OutputSink.NULL);
+            target = new InProcessTarget(42L);
+        } else {
+            int colon = where.lastIndexOf(':');
+            target = new SocketTarget(new InetSocketAddress(where.substring(0, colon), Integer.parseInt(where.substring(colon + 1))));
+        }
+
+        try (target) {
+            Report report = new LoadGenerator(target)
+                    .players(players).turns(turns).threads(threads).mix(mix).warmup(warmup)
+                    .run();
+            System.out.print(report);
+            // 같은 프로세스에서 돌았으면 게임 내부 지표도 함께 (워밍업 포함)
+            if (target instanceof InProcessTarget && Metrics.ENABLED) System.out.print(Metrics.snapshot());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package loadtest;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import core.Action;
+import core.Personality;
+
+/**
+ * 부하를 걸 대상 (같은 JVM 의 게임 엔진 또는 소켓 서버).
+ */
+public interface LoadTarget extends Closeable {
+
+    /**
+     * 새 플레이어(농장 하나)를 참가시킵니다.
+     *
+     * @param id          플레이어 번호 (0부터)
+     * @param personality 키울 콩의 성격
+     * @return 행동을 보낼 플레이어
+     * @throws IOException 접속 실패 등
+     */
+    Player join(int id, Personality personality) throws IOException;
+
+    /** 보고서에 쓸 대상 이름 */
+    String describe();
+
+    @Override
+    default void close() throws IOException {}
+
+    /** 플레이어 하나. 한 스레드에서만 사용합니다. */
+    interface Player extends Closeable {
+
+        /**
+         * 행동 한 턴을 수행하고 결과가 돌아올 때까지 기다립니다.
+         *
+         * @param action 행동
+         * @return 정상 처리되었으면 true (대상이 오류를 돌려주면 false)
+         * @throws IOException 통신 실패
+         */
+        boolean perform(Action action) throws IOException;
+
+        @Override
+        default void close() throws IOException {}
+    }
+}
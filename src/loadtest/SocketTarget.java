@@ -0,0 +1,91 @@
+package loadtest;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import core.Action;
+import core.Personality;
+
+/**
+ * 줄 단위 게임 프로토콜(server.GameServer 형식)을 쓰는 소켓 서버에 접속하는 대상.
+ * <p>플레이어마다 접속 하나를 열고, 명령을 보낸 뒤 OK/ERR 줄을 받을 때까지 기다립니다.</p>
+ */
+public final class SocketTarget implements LoadTarget {
+
+    private final InetSocketAddress address;
+
+    /**
+     * @param address 서버 주소
+     */
+    public SocketTarget(InetSocketAddress address) {
+        this.address = address;
+    }
+
+    @Override
+    public Player join(int id, Personality personality) throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(address);
+        SocketPlayer player = new SocketPlayer(socket);
+        if (!player.send("new " + personality.getId() + " 부하농부" + id + " 부하콩" + id)) {
+            player.close();
+            throw new IOException("농장을 만들지 못했습니다: " + player.lastStatus);
+        }
+        return player;
+    }
+
+    @Override
+    public String describe() { return address.getHostString() + ":" + address.getPort(); }
+
+    /** 프로토콜의 행동 명령 (먹이 주기만 이름이 다름) */
+    static String command(Action action) {
+        return action == Action.EAT ? "feed" : action.getKey();
+    }
+
+    private static final class SocketPlayer implements Player {
+        private final Socket socket;
+        private final OutputStream out;
+        private final BufferedReader in;
+        String lastStatus;
+
+        SocketPlayer(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public boolean perform(Action action) throws IOException {
+            return send(command(action));
+        }
+
+        /** 명령 한 줄을 보내고 응답 끝 줄까지 읽음 (본문 줄은 버림) */
+        boolean send(String command) throws IOException {
+            out.write((command + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            while (true) {
+                String line = in.readLine();
+                if (line == null) throw new EOFException("서버가 접속을 닫았습니다.");
+                if (line.startsWith("OK")) {
+                    lastStatus = line;
+                    return true;
+                }
+                if (line.startsWith("ERR")) {
+                    lastStatus = line;
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
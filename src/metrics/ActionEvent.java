@@ -0,0 +1,53 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import core.Action;
+import core.ActionResult;
+import core.Personality;
+
+/**
+ * 콩 행동 한 턴을 나타내는 JFR 이벤트 ({@code growbean.Action}).
+ * <p>녹화 중이 아니면 {@link #begin()}과 {@link #shouldCommit()}만 호출되며, 객체 할당은 JIT 가 없앱니다.</p>
+ */
+@Name("growbean.Action")
+@Label("Bean Action")
+@Category("GrowBean")
+@Description("Farmer 가 콩에게 시킨 행동 한 턴 (대사 추첨, 결과 적용, 특수 상태 규칙 포함)")
+@StackTrace(false)
+public final class ActionEvent extends Event {
+
+    @Label("Action")
+    String action;
+
+    @Label("Personality")
+    String personality;
+
+    @Label("Bean")
+    String bean;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 행동을 마치고, 녹화 중이면 기록합니다.
+     *
+     * @param personality 콩의 성격 (모르면 null)
+     * @param bean        콩 이름
+     * @param action      수행한 행동
+     * @param result      행동 결과 (CSV 오류 시 null)
+     */
+    public void finish(Personality personality, String bean, Action action, ActionResult result) {
+        if (!shouldCommit()) return;
+        this.action = action.getKey();
+        this.personality = (personality == null) ? null : personality.getKey();
+        this.bean = bean;
+        this.success = result != null && result.isSuccess();
+        commit();
+    }
+}
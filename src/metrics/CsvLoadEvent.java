@@ -0,0 +1,37 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * CSV 파일 하나를 읽은 JFR 이벤트 ({@code growbean.CsvLoad}).
+ * <p>대사 테이블 컴파일과 {@code Utils.loadCsv} 로 읽는 규칙/감쇠 표가 해당됩니다.</p>
+ */
+@Name("growbean.CsvLoad")
+@Label("CSV Load")
+@Category("GrowBean")
+@Description("대사/규칙 CSV 읽기 (파일, 행 수)")
+public final class CsvLoadEvent extends Event {
+
+    @Label("File")
+    String file;
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * 읽기를 마치고, 녹화 중이면 기록합니다.
+     *
+     * @param file 파일 이름 또는 경로
+     * @param rows 읽은 행 수
+     */
+    public void finish(String file, int rows) {
+        if (!shouldCommit()) return;
+        this.file = file;
+        this.rows = rows;
+        commit();
+    }
+}
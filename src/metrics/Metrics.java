@@ -0,0 +1,290 @@
+package metrics;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import core.Action;
+import core.Personality;
+import core.PersonalityRegistry;
+import exceptions.EventType;
+import output.Output;
+
+/**
+ * 게임 전체가 공유하는 지표 등록소.
+ * <p>행동(성격 × 행동별 횟수와 소요 시간), 이벤트 종류별 횟수, 대사 캐시 적중/실패와 CSV 로드 시간,
+ * 저장/저널 시간과 바이트 수, 오류 수를 {@link LongAdder} 기반으로 잠금 없이 누적합니다.
+ * 기록 비용은 덧셈 몇 번이라 항상 켜 두며, {@code -Dgrowbean.metrics=false} 로 끌 수 있습니다.</p>
+ * <p>{@link #install()}하면 JMX({@code growbean:type=Metrics})로 노출하고,
+ * {@code -Dgrowbean.metrics.dump=초} 가 있으면 그 주기로 {@link #snapshot()}을 출력합니다.</p>
+ */
+public final class Metrics {
+
+    public static final String ENABLED_PROPERTY = "growbean.metrics";
+    public static final String DUMP_PROPERTY = "growbean.metrics.dump";
+    public static final String OBJECT_NAME = "growbean:type=Metrics";
+
+    /** 지표 기록 여부 (꺼지면 기록 호출이 JIT 에서 제거됨) */
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+
+    private static final int ACTIONS = Action.values().length;
+
+    private static final LongAdder[] events = adders(EventType.values().length);
+    private static final LongAdder dialogHits = new LongAdder();
+    private static final LongAdder dialogMisses = new LongAdder();
+    private static final Timer dialogLoads = new Timer();
+    private static final Timer saves = new Timer();
+    private static final LongAdder saveBytes = new LongAdder();
+    private static final Timer journalFlushes = new Timer();
+    private static final LongAdder journalBytes = new LongAdder();
+    private static final LongAdder errors = new LongAdder();
+
+    private static boolean installed;
+
+    private Metrics() {}
+
+    /** 행동 타이머 (처음 기록할 때 성격 등록소 크기로 만듦) */
+    private static final class Actions {
+        // [성격 번호 * 행동 수 + 행동 ordinal], 0번 성격은 알 수 없는 콩
+        static final Timer[] TIMERS = timers((PersonalityRegistry.maxId() + 1) * ACTIONS);
+    }
+
+    // ==============================
+    // 기록
+    // ==============================
+
+    /** 시간 측정 시작 (지표가 꺼져 있으면 0) */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 행동 한 턴을 기록합니다.
+     *
+     * @param personality 콩의 성격 (모르면 null)
+     * @param action      행동
+     * @param start       {@link #start()} 값
+     */
+    public static void action(Personality personality, Action action, long start) {
+        if (!ENABLED) return;
+        Timer[] timers = Actions.TIMERS;
+        int type = (personality == null) ? 0 : personality.getId();
+        int index = type * ACTIONS + action.ordinal();
+        if (index >= timers.length) index = action.ordinal();
+        timers[index].record(System.nanoTime() - start);
+    }
+
+    /** 콩 이벤트 발생 */
+    public static void event(EventType type) {
+        if (ENABLED) events[type.ordinal()].increment();
+    }
+
+    /** 대사 테이블 조회 (적중이면 true, 처음 읽어야 했으면 false) */
+    public static void dialogLookup(boolean hit) {
+        if (ENABLED) (hit ? dialogHits : dialogMisses).increment();
+    }
+
+    /** 대사 CSV 읽기/컴파일 완료 */
+    public static void dialogLoad(long start) {
+        if (ENABLED) dialogLoads.record(System.nanoTime() - start);
+    }
+
+    /** 게임 상태 저장 완료 */
+    public static void save(long start, long bytes) {
+        if (!ENABLED) return;
+        saves.record(System.nanoTime() - start);
+        saveBytes.add(bytes);
+    }
+
+    /** 행동 저널 쓰기 완료 */
+    public static void journal(long start, long bytes) {
+        if (!ENABLED) return;
+        journalFlushes.record(System.nanoTime() - start);
+        journalBytes.add(bytes);
+    }
+
+    /** 오류 보고 */
+    public static void error() {
+        if (ENABLED) errors.increment();
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    /** 성격/행동별 타이머 (기록이 있는 것만, 키: "kind/eat") */
+    public static Map<String, Timer> actions() {
+        Map<String, Timer> result = new LinkedHashMap<>();
+        Timer[] timers = Actions.TIMERS;
+        for (int i = 0; i < timers.length; i++) {
+            if (timers[i].count() == 0) continue;
+            Personality personality = PersonalityRegistry.byId(i / ACTIONS);
+            String type = (personality == null) ? "?" : personality.getKey();
+            result.put(type + "/" + Action.values()[i % ACTIONS].getKey(), timers[i]);
+        }
+        return result;
+    }
+
+    /** 이벤트 종류별 횟수 (발생한 것만) */
+    public static Map<EventType, Long> events() {
+        Map<EventType, Long> result = new LinkedHashMap<>();
+        for (EventType type : EventType.values()) {
+            long n = events[type.ordinal()].sum();
+            if (n > 0) result.put(type, n);
+        }
+        return result;
+    }
+
+    public static long dialogHits() { return dialogHits.sum(); }
+    public static long dialogMisses() { return dialogMisses.sum(); }
+    public static Timer dialogLoads() { return dialogLoads; }
+    public static Timer saves() { return saves; }
+    public static long saveBytes() { return saveBytes.sum(); }
+    public static Timer journalFlushes() { return journalFlushes; }
+    public static long journalBytes() { return journalBytes.sum(); }
+    public static long errors() { return errors.sum(); }
+
+    /** 모든 지표를 0으로 (동시에 기록 중인 값은 일부 남을 수 있음) */
+    public static void reset() {
+        for (Timer timer : Actions.TIMERS) timer.reset();
+        for (LongAdder adder : events) adder.reset();
+        dialogHits.reset();
+        dialogMisses.reset();
+        dialogLoads.reset();
+        saves.reset();
+        saveBytes.reset();
+        journalFlushes.reset();
+        journalBytes.reset();
+        errors.reset();
+    }
+
+    /** 현재 지표를 사람이 읽는 여러 줄 문자열로 */
+    public static String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[지표] ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append('\n');
+        actions().forEach((key, timer) -> sb.append(String.format("  행동 %-14s %8d회  평균 %8.1fus  최대 %8.1fus%n",
+                key, timer.count(), timer.meanNanos() / 1e3, timer.maxNanos() / 1e3)));
+        events().forEach((type, n) -> sb.append(String.format("  이벤트 %-16s %8d회%n", type.name(), n)));
+        sb.append(String.format("  대사 캐시 적중 %d / 실패 %d, CSV 로드 %d회 평균 %.2fms%n",
+                dialogHits(), dialogMisses(), dialogLoads.count(), dialogLoads.meanNanos() / 1e6));
+        sb.append(String.format("  저장 %d회 평균 %.2fms, %d B / 저널 %d회 평균 %.2fms, %d B%n",
+                saves.count(), saves.meanNanos() / 1e6, saveBytes(),
+                journalFlushes.count(), journalFlushes.meanNanos() / 1e6, journalBytes()));
+        sb.append("  오류 ").append(errors()).append('\n');
+        return sb.toString();
+    }
+
+    // ==============================
+    // 노출 (JMX, 주기적 출력)
+    // ==============================
+
+    /**
+     * JMX 에 지표를 등록하고, {@value #DUMP_PROPERTY} 속성이 있으면 주기적 출력을 시작합니다.
+     * 여러 번 호출해도 한 번만 등록합니다. 지표가 꺼져 있으면 아무것도 하지 않습니다.
+     */
+    public static synchronized void install() {
+        if (!ENABLED || installed) return;
+        installed = true;
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) server.registerMBean(new Bean(), name);
+        } catch (JMException e) {
+            Output.error("[지표] JMX 등록 실패: " + e.getMessage());
+        }
+
+        String dump = System.getProperty(DUMP_PROPERTY);
+        if (dump != null && !dump.isBlank()) {
+            startDump(Long.parseLong(dump.trim()), TimeUnit.SECONDS, text -> Output.line(text.stripTrailing()));
+        }
+    }
+
+    /**
+     * 주기적으로 지표 스냅샷을 넘깁니다.
+     *
+     * @param period 주기
+     * @param unit   주기 단위
+     * @param out    스냅샷을 받을 곳
+     * @return 닫으면 출력을 멈추는 핸들
+     */
+    public static Closeable startDump(long period, TimeUnit unit, Consumer<String> out) {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(() -> out.accept(snapshot()), period, period, unit);
+        return timer::shutdownNow;
+    }
+
+    /** JMX 로 등록되는 객체 */
+    private static final class Bean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getActionCounts() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            actions().forEach((key, timer) -> result.put(key, timer.count()));
+            return result;
+        }
+
+        @Override
+        public Map<String, Double> getActionMeanMicros() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            actions().forEach((key, timer) -> result.put(key, timer.meanNanos() / 1e3));
+            return result;
+        }
+
+        @Override
+        public Map<String, Double> getActionMaxMicros() {
+            Map<String, Double> result = new LinkedHashMap<>();
+            actions().forEach((key, timer) -> result.put(key, timer.maxNanos() / 1e3));
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getEventCounts() {
+            Map<String, Long> result = new LinkedHashMap<>();
+            events().forEach((type, n) -> result.put(type.name(), n));
+            return result;
+        }
+
+        @Override public long getDialogCacheHits() { return dialogHits(); }
+        @Override public long getDialogCacheMisses() { return dialogMisses(); }
+        @Override public long getDialogLoads() { return dialogLoads.count(); }
+        @Override public double getDialogLoadMeanMillis() { return dialogLoads.meanNanos() / 1e6; }
+        @Override public long getSaves() { return saves.count(); }
+        @Override public double getSaveMeanMillis() { return saves.meanNanos() / 1e6; }
+        @Override public long getSaveBytes() { return saveBytes(); }
+        @Override public long getJournalFlushes() { return journalFlushes.count(); }
+        @Override public double getJournalFlushMeanMillis() { return journalFlushes.meanNanos() / 1e6; }
+        @Override public long getJournalBytes() { return journalBytes(); }
+        @Override public long getErrors() { return errors(); }
+        @Override public String snapshot() { return Metrics.snapshot(); }
+        @Override public void reset() { Metrics.reset(); }
+    }
+
+    private static LongAdder[] adders(int n) {
+        LongAdder[] adders = new LongAdder[n];
+        for (int i = 0; i < n; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static Timer[] timers(int n) {
+        Timer[] timers = new Timer[n];
+        for (int i = 0; i < n; i++) timers[i] = new Timer();
+        return timers;
+    }
+}
@@ -0,0 +1,44 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * JMX 로 노출하는 게임 지표 ({@code growbean:type=Metrics}).
+ * <p>jconsole / VisualVM 의 MBeans 탭에서 조회할 수 있으며, Map 속성은 표(TabularData)로 보입니다.</p>
+ */
+public interface MetricsMXBean {
+
+    /** 성격/행동별 수행 횟수 (키: "kind/eat") */
+    Map<String, Long> getActionCounts();
+
+    /** 성격/행동별 평균 소요 시간 (마이크로초) */
+    Map<String, Double> getActionMeanMicros();
+
+    /** 성격/행동별 최대 소요 시간 (마이크로초) */
+    Map<String, Double> getActionMaxMicros();
+
+    /** 이벤트 종류별 발생 횟수 */
+    Map<String, Long> getEventCounts();
+
+    long getDialogCacheHits();
+    long getDialogCacheMisses();
+    long getDialogLoads();
+    double getDialogLoadMeanMillis();
+
+    long getSaves();
+    double getSaveMeanMillis();
+    long getSaveBytes();
+
+    long getJournalFlushes();
+    double getJournalFlushMeanMillis();
+    long getJournalBytes();
+
+    /** ExceptionHandler 로 보고된 오류 수 */
+    long getErrors();
+
+    /** 현재 지표를 사람이 읽는 문자열로 */
+    String snapshot();
+
+    /** 모든 지표를 0으로 */
+    void reset();
+}
@@ -0,0 +1,43 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 행동 후 특수 상태 규칙 검사 한 번의 JFR 이벤트 ({@code growbean.RuleCheck}).
+ */
+@Name("growbean.RuleCheck")
+@Label("Special Condition Check")
+@Category("GrowBean")
+@Description("rules.csv 규칙표로 콩의 특수 상태를 검사하고 효과/이벤트를 적용")
+@StackTrace(false)
+public final class RuleCheckEvent extends Event {
+
+    @Label("Scope")
+    String scope;
+
+    @Label("Bean")
+    String bean;
+
+    @Label("Energy After")
+    int energy;
+
+    /**
+     * 검사를 마치고, 녹화 중이면 기록합니다.
+     *
+     * @param scope  성격 규칙 범위 (공통 규칙만이면 null)
+     * @param bean   콩 이름
+     * @param energy 규칙 적용 후 에너지
+     */
+    public void finish(String scope, String bean, int energy) {
+        if (!shouldCommit()) return;
+        this.scope = scope;
+        this.bean = bean;
+        this.energy = energy;
+        commit();
+    }
+}
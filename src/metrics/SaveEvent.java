@@ -0,0 +1,48 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 게임 저장/불러오기의 JFR 이벤트 ({@code growbean.Save}).
+ */
+@Name("growbean.Save")
+@Label("Save / Load")
+@Category("GrowBean")
+@Description("save.dat 저장 또는 불러오기")
+public final class SaveEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 저장/불러오기를 마치고, 녹화 중이면 기록합니다.
+     *
+     * @param operation "save" 또는 "load"
+     * @param file      파일 이름
+     * @param bytes     쓰거나 읽은 바이트 수 (모르면 0)
+     * @param success   성공 여부
+     */
+    public void finish(String operation, String file, long bytes, boolean success) {
+        if (!shouldCommit()) return;
+        this.operation = operation;
+        this.file = file;
+        this.bytes = bytes;
+        this.success = success;
+        commit();
+    }
+}
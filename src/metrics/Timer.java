@@ -0,0 +1,42 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 횟수와 소요 시간을 잠금 없이 누적하는 타이머.
+ * <p>{@link LongAdder}는 스레드마다 나뉜 칸에 더하므로 여러 스레드가 동시에 기록해도 경합이 거의 없습니다.</p>
+ */
+public final class Timer {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 한 번의 소요 시간을 기록합니다.
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long count() { return count.sum(); }
+    public long totalNanos() { return totalNanos.sum(); }
+    public long maxNanos() { return maxNanos.get(); }
+
+    /** 평균 소요 시간 (나노초, 기록이 없으면 0) */
+    public double meanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) totalNanos.sum() / n;
+    }
+
+    void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
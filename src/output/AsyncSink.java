@@ -0,0 +1,163 @@
+package output;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지를 크기 제한이 있는 링 버퍼에 넣고, 전용 작성 스레드 하나가 모아서 출력하는 비동기 출력 대상.
+ * <p>메시지를 내보내는 쪽(콩의 행동 처리)은 큐에 넣기만 하므로 PrintStream 잠금을 기다리지 않습니다.
+ * 작성 스레드는 쌓인 메시지를 묶음으로 꺼내 대상 출력에 쓴 뒤 묶음마다 한 번만 flush 합니다.
+ * 버퍼가 가득 차면 메시지를 버리지 않고 자리가 날 때까지 기다립니다.</p>
+ * <p>대상 출력이 예외를 던져도 작성 스레드는 계속 돌며(그 묶음은 출력된 것으로 셈), 닫힌 뒤에 들어온 메시지는 내보낸 스레드가 직접 씁니다.</p>
+ */
+public class AsyncSink implements OutputSink {
+
+    /** 한 번에 꺼내 쓰는 최대 메시지 수 */
+    private static final int MAX_BATCH = 256;
+
+    /** 버퍼가 가득 찼거나 출력을 기다릴 때 닫힘/작성 스레드 상태를 다시 확인하는 간격 (ms) */
+    private static final long RECHECK_MS = 50;
+
+    private final OutputSink target;
+    private final BlockingQueue<OutputMessage> queue;
+    private final Thread writer;
+
+    private final Object progress = new Object();
+    private long submitted; // progress 잠금 안에서만 접근
+    private long written;   // progress 잠금 안에서만 접근
+
+    private volatile boolean closed;
+
+    /**
+     * @param target   실제로 출력할 대상 (작성 스레드에서만 호출됨)
+     * @param capacity 링 버퍼 크기
+     */
+    public AsyncSink(OutputSink target, int capacity) {
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::drainLoop, "output-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** 표준 출력/표준 오류로 모아 쓰는 비동기 콘솔 */
+    public static AsyncSink console(int capacity) {
+        return new AsyncSink(new ConsoleSink(System.out, System.err, false), capacity);
+    }
+
+    @Override
+    public void emit(OutputMessage message) {
+        if (stopped()) {
+            writeNow(message);
+            return;
+        }
+        synchronized (progress) {
+            submitted++;
+        }
+        try {
+            while (!queue.offer(message, RECHECK_MS, TimeUnit.MILLISECONDS)) {
+                if (stopped()) drainRest(); // 비울 작성 스레드가 없으면 직접 자리를 만듦
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markWritten(1);
+            writeNow(message);
+            return;
+        }
+        // close() 가 큐를 비운 뒤에 넣었을 수 있음
+        if (stopped()) drainRest();
+    }
+
+    /** 지금까지 넣은 메시지가 모두 출력될 때까지 대기 (입력을 받기 전 등) */
+    @Override
+    public void flush() {
+        synchronized (progress) {
+            long target = submitted;
+            while (written < target) {
+                if (stopped()) break;
+                try {
+                    progress.wait(RECHECK_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        // 작성 스레드가 없으면 남은 메시지를 직접 출력
+        if (stopped()) drainRest();
+    }
+
+    /** 작성 스레드를 멈추고 남은 메시지를 모두 출력 */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        drainRest();
+        target.close();
+    }
+
+    /** 작성 스레드가 없을 때(닫힘, 비정상 종료) 큐에 남은 메시지를 호출한 스레드에서 출력 */
+    private void drainRest() {
+        List<OutputMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        write(rest);
+    }
+
+    private boolean stopped() {
+        return closed || !writer.isAlive();
+    }
+
+    private void drainLoop() {
+        List<OutputMessage> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (!closed) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // close() 에서 남은 메시지 처리
+        }
+        write(batch);
+    }
+
+    private void write(List<OutputMessage> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            synchronized (target) {
+                for (OutputMessage message : batch) target.emit(message);
+                target.flush();
+            }
+        } catch (RuntimeException e) {
+            // 출력 대상의 오류로 작성 스레드가 멈추면 flush() 를 기다리는 쪽이 영원히 멈춤
+            System.err.println("출력 중 오류: " + e);
+        } finally {
+            markWritten(batch.size());
+        }
+    }
+
+    private void writeNow(OutputMessage message) {
+        synchronized (target) {
+            target.emit(message);
+            target.flush();
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (progress) {
+            written += count;
+            progress.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package output;
+
+import java.io.PrintStream;
+
+/**
+ * 메시지를 콘솔(표준 출력/표준 오류)에 그리는 출력 대상.
+ * <p>이벤트는 노란색으로 표준 출력에, 오류는 빨간색으로 표준 오류에 출력합니다.
+ * {@code autoFlush} 가 false 면 {@link #flush()} 전까지 스트림별 버퍼에 모아 두었다가 한 번에 쓰며,
+ * 다른 스트림의 메시지가 끼어들면 앞서 모은 쪽을 먼저 내보내므로 두 스트림 사이의 순서도 유지됩니다.</p>
+ */
+public class ConsoleSink implements OutputSink {
+
+    private static final String RED = "\u001B[31m";
+    private static final String YELLOW = "\u001B[33m";
+    private static final String RESET = "\u001B[0m";
+
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean autoFlush;
+
+    private final StringBuilder outBuffer = new StringBuilder();
+    private final StringBuilder errBuffer = new StringBuilder();
+
+    /**
+     * @param out       일반 메시지 출력 스트림
+     * @param err       오류 출력 스트림
+     * @param autoFlush 메시지마다 바로 출력하려면 true
+     */
+    public ConsoleSink(PrintStream out, PrintStream err, boolean autoFlush) {
+        this.out = out;
+        this.err = err;
+        this.autoFlush = autoFlush;
+    }
+
+    /** 표준 출력/표준 오류에 바로바로 출력하는 기본 콘솔 */
+    public static ConsoleSink standard() {
+        return new ConsoleSink(System.out, System.err, true);
+    }
+
+    @Override
+    public synchronized void emit(OutputMessage message) {
+        String text = message.getText();
+        // 다른 스트림에 먼저 들어온 메시지를 앞서 내보내 순서 유지
+        if (message.getKind() == OutputMessage.Kind.ERROR) write(out, outBuffer);
+        else write(err, errBuffer);
+
+        switch (message.getKind()) {
+            case LINE:  outBuffer.append(text).append('\n'); break;
+            case TEXT:  outBuffer.append(text); break;
+            case EVENT: outBuffer.append(YELLOW).append(text).append(RESET).append('\n'); break;
+            case ERROR: errBuffer.append(RED).append(text).append(RESET).append('\n'); break;
+        }
+        if (autoFlush) flush();
+    }
+
+    @Override
+    public synchronized void flush() {
+        // emit 에서 다른 스트림이 끼어들 때마다 비우므로 두 버퍼 중 하나만 차 있음
+        write(out, outBuffer);
+        write(err, errBuffer);
+    }
+
+    private static void write(PrintStream stream, StringBuilder buffer) {
+        if (buffer.length() == 0) return;
+        stream.print(buffer);
+        stream.flush();
+        buffer.setLength(0);
+    }
+}
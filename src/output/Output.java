@@ -0,0 +1,58 @@
+package output;
+
+/**
+ * 게임 전체가 공유하는 출력 창구.
+ * <p>기본값은 바로 출력하는 콘솔이며, 실행 방식에 따라 {@link AsyncSink}(대화형 게임)
+ * 또는 {@link OutputSink#NULL}(헤드리스 시뮬레이션)로 바꿔 씁니다.</p>
+ */
+public final class Output {
+
+    private static volatile OutputSink sink = ConsoleSink.standard();
+
+    private Output() {}
+
+    /**
+     * 출력 대상을 교체합니다. 이전 대상은 닫지 않으므로 필요하면 호출자가 닫습니다.
+     *
+     * @param newSink 새 출력 대상
+     * @return 이전 출력 대상
+     */
+    public static OutputSink setSink(OutputSink newSink) {
+        OutputSink previous = sink;
+        sink = newSink;
+        return previous;
+    }
+
+    /** 현재 출력 대상 */
+    public static OutputSink sink() { return sink; }
+
+    /** 한 줄 출력 */
+    public static void line(String text) {
+        sink.emit(OutputMessage.of(OutputMessage.Kind.LINE, text));
+    }
+
+    /** 빈 줄 출력 */
+    public static void line() {
+        line("");
+    }
+
+    /** 줄바꿈 없이 출력 */
+    public static void print(String text) {
+        sink.emit(OutputMessage.of(OutputMessage.Kind.TEXT, text));
+    }
+
+    /** 콩 이벤트 알림 출력 */
+    public static void event(String text) {
+        sink.emit(OutputMessage.of(OutputMessage.Kind.EVENT, text));
+    }
+
+    /** 오류 출력 */
+    public static void error(String text) {
+        sink.emit(OutputMessage.of(OutputMessage.Kind.ERROR, text));
+    }
+
+    /** 지금까지의 출력이 화면에 나갈 때까지 대기 */
+    public static void flush() {
+        sink.flush();
+    }
+}
@@ -0,0 +1,36 @@
+package output;
+
+/**
+ * 출력 대상으로 보내는 메시지 한 건.
+ * <p>문자열을 바로 찍지 않고 종류와 내용만 담아 보내므로,
+ * 색상이나 출력 스트림(표준 출력/표준 오류) 선택은 실제 출력하는 쪽이 정합니다.</p>
+ */
+public final class OutputMessage {
+
+    /** 메시지 종류 */
+    public enum Kind {
+        /** 일반 진행/대사 메시지 (줄바꿈 포함) */
+        LINE,
+        /** 줄바꿈 없는 메시지 (입력 프롬프트 등) */
+        TEXT,
+        /** 콩 이벤트 알림 */
+        EVENT,
+        /** 오류 */
+        ERROR
+    }
+
+    private final Kind kind;
+    private final String text;
+
+    private OutputMessage(Kind kind, String text) {
+        this.kind = kind;
+        this.text = text;
+    }
+
+    public static OutputMessage of(Kind kind, String text) {
+        return new OutputMessage(kind, text);
+    }
+
+    public Kind getKind() { return kind; }
+    public String getText() { return text; }
+}
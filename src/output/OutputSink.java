@@ -0,0 +1,27 @@
+package output;
+
+/**
+ * 메시지 출력 대상.
+ * <p>게임 로직은 이 인터페이스로만 메시지를 내보내고, 콘솔 출력 여부·시점은 구현체가 결정합니다.</p>
+ */
+public interface OutputSink extends AutoCloseable {
+
+    /** 모든 메시지를 버리는 출력 대상 (헤드리스 실행용) */
+    OutputSink NULL = message -> {};
+
+    /**
+     * 메시지 한 건을 내보냅니다.
+     *
+     * @param message 출력할 메시지
+     */
+    void emit(OutputMessage message);
+
+    /** 지금까지 내보낸 메시지가 실제로 출력될 때까지 기다림 */
+    default void flush() {}
+
+    /** 남은 메시지를 출력하고 자원 정리 */
+    @Override
+    default void close() {
+        flush();
+    }
+}
@@ -0,0 +1,187 @@
+package replay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+import game.FarmManager;
+import game.GameClock;
+
+/**
+ * {@link SessionRecorder}로 남긴 재현 로그를 화면 없이 다시 실행하는 도구.
+ * <p>같은 시드의 난수 생성기로 같은 시작 상태에서 같은 명령을 실행하므로, 게임 규칙과 대사 CSV 가 그대로라면
+ * 매 턴의 행동 결과와 마지막 콩 상태가 기록과 똑같이 나옵니다. 대사/메시지 문장은 만들지 않고,
+ * 출력과 대기 없이 {@code Farmer.perform}과 같은 순서(행동 추첨 → 결과 적용 → 하루 끝 감쇠, {@link GameClock#advance})만 수행합니다.</p>
+ * <p>결과가 처음 달라진 턴을 알려 주므로, 버그 제보의 재현이나 밸런스/엔진 수정 전후의 회귀 확인에 씁니다.</p>
+ */
+public final class ReplayRunner {
+
+    private ReplayRunner() {}
+
+    /** 재실행 결과 */
+    public static final class Result {
+        private final int sessions;
+        private final int turns;
+        private final String divergence;
+        private final Boolean finalStateMatches;
+        private final Beans bean;
+        private final int day;
+        private final int turnCount;
+        private final long elapsedNanos;
+
+        Result(int sessions, int turns, String divergence, Boolean finalStateMatches,
+               Beans bean, int day, int turnCount, long elapsedNanos) {
+            this.sessions = sessions;
+            this.turns = turns;
+            this.divergence = divergence;
+            this.finalStateMatches = finalStateMatches;
+            this.bean = bean;
+            this.day = day;
+            this.turnCount = turnCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** 로그에 있던 세션(start 행) 수 */
+        public int getSessions() { return sessions; }
+        /** 다시 실행한 행동 수 */
+        public int getTurns() { return turns; }
+        /** 행동 결과가 처음 달라진 곳의 설명 (모두 같으면 null) */
+        public String getDivergence() { return divergence; }
+        /** 마지막 상태가 end 행과 같은지 (end 행이 없으면 null) */
+        public Boolean getFinalStateMatches() { return finalStateMatches; }
+        /** 재실행이 끝난 콩 */
+        public Beans getBean() { return bean; }
+        public int getDay() { return day; }
+        public int getTurnCount() { return turnCount; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        /** 모든 행동 결과와 마지막 상태가 기록과 같은지 */
+        public boolean isReproduced() {
+            return divergence == null && !Boolean.FALSE.equals(finalStateMatches);
+        }
+
+        @Override
+        public String toString() {
+            String state = (finalStateMatches == null) ? "종료 기록 없음" : (finalStateMatches ? "일치" : "불일치");
+            return String.format("세션 %d, 행동 %d회, %d일차 턴 %d, %.2fms%n행동 결과: %s%n마지막 상태: %s",
+                    sessions, turns, day, turnCount, elapsedNanos / 1e6,
+                    (divergence == null) ? "모두 일치" : divergence, state);
+        }
+    }
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /**
+     * 재현 로그 파일을 다시 실행합니다.
+     *
+     * @param file 재현 로그
+     * @return 재실행 결과
+     * @throws IOException 파일을 읽지 못했거나 형식이 잘못된 경우
+     */
+    public static Result run(Path file) throws IOException {
+        return run(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 재현 로그의 행들을 다시 실행합니다.
+     *
+     * @param lines 재현 로그의 행 목록
+     * @return 재실행 결과
+     * @throws IOException 형식이 잘못된 경우
+     */
+    public static Result run(List<String> lines) throws IOException {
+        long start = System.nanoTime();
+        SplittableRandom random = null;
+        Beans bean = null;
+        GameClock clock = new GameClock();
+        int sessions = 0, turns = 0;
+        String divergence = null;
+        Boolean finalStateMatches = null;
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] f = line.split("\t", -1);
+
+            switch (f[0]) {
+                case "seed":
+                    random = new SplittableRandom(Long.parseLong(f[1]));
+                    break;
+
+                case "start": {
+                    if (random == null || f.length < 7) throw formatError(n, line);
+                    bean = FarmManager.createBean(Integer.parseInt(f[1]), f[6]);
+                    if (bean == null) throw new IOException("알 수 없는 콩 성격 번호입니다 (" + (n + 1) + "행): " + f[1]);
+                    SessionRecorder.decodeState(f[4], bean);
+                    bean.setMessageSink(null);
+                    bean.setEventHandler(event -> {});
+                    bean.setRandom(random);
+                    clock.set(Integer.parseInt(f[2]), Integer.parseInt(f[3]));
+                    sessions++;
+                    break;
+                }
+
+                case "act": {
+                    Action action = (f.length < 4) ? null : Action.fromKey(f[1]);
+                    if (bean == null || action == null) throw formatError(n, line);
+
+                    ActionResult result = bean.act(action);
+                    bean.applyActionResult(result, action.getKey());
+                    turns++;
+
+                    String expected = f[2] + '\t' + f[3];
+                    String actual = SessionRecorder.signature(result);
+                    if (divergence == null && !expected.equals(actual)) {
+                        divergence = String.format("%d번째 행동(%d일차 %s, %d행): 기록 [%s] / 재실행 [%s]",
+                                turns, clock.getDay(), action.getKey(), n + 1, expected.replace('\t', ' '), actual.replace('\t', ' '));
+                    }
+
+                    clock.advance(bean);
+                    break;
+                }
+
+                case "end":
+                    if (bean == null || f.length < 4) throw formatError(n, line);
+                    finalStateMatches = Integer.parseInt(f[1]) == clock.getDay() && Integer.parseInt(f[2]) == clock.getTurnCount()
+                            && f[3].equals(SessionRecorder.encodeState(bean));
+                    break;
+
+                default:
+                    throw formatError(n, line);
+            }
+        }
+
+        return new Result(sessions, turns, divergence, finalStateMatches, bean, clock.getDay(), clock.getTurnCount(), System.nanoTime() - start);
+    }
+
+    private static IOException formatError(int index, String line) {
+        return new IOException("재현 로그 형식 오류 (" + (index + 1) + "행): " + line);
+    }
+
+    /** 사용법: java replay.ReplayRunner <재현 로그> [반복 횟수] (반복은 재실행 속도 측정용) */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("사용법: java replay.ReplayRunner <재현 로그> [반복 횟수]");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int repeat = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Result result = run(lines);
+        for (int i = 1; i < repeat; i++) result = run(lines);
+
+        System.out.println(result);
+        if (result.getBean() != null) System.out.print(result.getBean().statusText());
+        if (!result.isReproduced()) System.exit(1);
+    }
+}
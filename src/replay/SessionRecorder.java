@@ -0,0 +1,150 @@
+package replay;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+import core.Emotion;
+import game.FarmManager;
+import game.Farmer;
+
+/**
+ * 한 게임 세션을 다시 실행할 수 있도록 기록하는 재현 로그.
+ * <p>세션의 마스터 시드, 시작 상태, 농부 명령을 순서대로 탭 구분 텍스트로 남깁니다.
+ * 명령마다 그때 나온 행동 결과(성공 여부, 감정 변화량)도 함께 적어 두므로,
+ * {@link ReplayRunner}로 다시 실행하면 어느 턴에서 결과가 달라졌는지 바로 알 수 있습니다.</p>
+ *
+ * <pre>
+ * # growbean replay 1
+ * seed    마스터 시드
+ * start   성격 번호  일차  누적 턴  상태(Base64, Beans.writeState)  농부 이름  콩 이름
+ * act     행동 키  결과(+ 성공, - 실패, ! 결과 없음)  감정 변화량(Emotion ordinal 순, 콤마 구분)
+ * end     일차  누적 턴  상태(Base64)
+ * </pre>
+ * <p>새 게임을 시작할 때마다 start 행이 다시 나오며, 난수 생성기는 세션 전체에서 이어서 씁니다.</p>
+ */
+public final class SessionRecorder implements Closeable {
+
+    public static final String HEADER = "# growbean replay 1";
+
+    private final Path file;
+    private final BufferedWriter out;
+
+    private SessionRecorder(Path file, BufferedWriter out) {
+        this.file = file;
+        this.out = out;
+    }
+
+    /**
+     * 새 재현 로그를 만들고 시드를 기록합니다.
+     *
+     * @param file 기록할 파일 (있으면 덮어씀)
+     * @param seed 세션의 마스터 시드
+     * @return 기록기
+     * @throws IOException 파일을 만들 수 없을 때
+     */
+    public static SessionRecorder create(Path file, long seed) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        SessionRecorder recorder = new SessionRecorder(file, Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        recorder.line(HEADER);
+        recorder.line("seed\t" + seed);
+        return recorder;
+    }
+
+    /** 기록 중인 파일 */
+    public Path getFile() { return file; }
+
+    // ==============================
+    // 기록
+    // ==============================
+
+    /**
+     * 세션(새 게임 또는 불러온 게임)의 시작 상태를 기록합니다.
+     *
+     * @param farmer    농부 (콩 포함)
+     * @param day       일차
+     * @param turnCount 누적 턴 수
+     */
+    public void start(Farmer farmer, int day, int turnCount) throws IOException {
+        Beans bean = farmer.getBean();
+        line("start\t" + FarmManager.beanType(bean) + '\t' + day + '\t' + turnCount + '\t' + encodeState(bean)
+                + '\t' + farmer.getName() + '\t' + bean.getName());
+    }
+
+    /**
+     * 농부 명령 하나와 그 결과를 기록합니다.
+     *
+     * @param action 행동
+     * @param result 행동 결과 (CSV 오류 시 null)
+     */
+    public void action(Action action, ActionResult result) throws IOException {
+        line("act\t" + action.getKey() + '\t' + signature(result));
+    }
+
+    /**
+     * 세션 종료 시점의 상태를 기록합니다. (재실행 결과 검증용)
+     *
+     * @param bean      콩
+     * @param day       일차
+     * @param turnCount 누적 턴 수
+     */
+    public void end(Beans bean, int day, int turnCount) throws IOException {
+        line("end\t" + day + '\t' + turnCount + '\t' + encodeState(bean));
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    /** 한 줄 기록 후 바로 내보냄 (비정상 종료해도 직전 명령까지 남도록) */
+    private void line(String text) throws IOException {
+        out.write(text);
+        out.newLine();
+        out.flush();
+    }
+
+    // ==============================
+    // 형식 (ReplayRunner 와 공용)
+    // ==============================
+
+    /** 행동 결과를 "+/-/! 변화량" 문자열로 */
+    static String signature(ActionResult result) {
+        if (result == null) return "!\t";
+        StringBuilder sb = new StringBuilder(result.isSuccess() ? "+\t" : "-\t");
+        for (int e = 0; e < Emotion.COUNT; e++) {
+            if (e > 0) sb.append(',');
+            sb.append(result.getEmotionDelta(Emotion.byOrdinal(e)));
+        }
+        return sb.toString();
+    }
+
+    /** 콩의 상태({@link Beans#writeState})를 Base64 로 */
+    static String encodeState(Beans bean) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            bean.writeState(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이라 발생하지 않음
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /** {@link #encodeState}로 만든 문자열을 콩에 덮어씀 */
+    static void decodeState(String text, Beans bean) throws IOException {
+        bean.readState(new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(text))));
+    }
+}
@@ -0,0 +1,304 @@
+package save;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+import core.Emotion;
+import exceptions.BeanEvents;
+import game.GameClock;
+import metrics.Metrics;
+
+/**
+ * 행동 결과를 순서대로 덧붙여 기록하는 선기록(write-ahead) 저널.
+ * <p>마지막 스냅샷(save.dat) 이후의 행동을 고정 길이 레코드로 남겨 두고,
+ * 다음 실행 시 스냅샷 + 저널 꼬리를 다시 적용해 비정상 종료 직전 상태를 복구합니다.
+ * 레코드에는 난수 추첨 결과(성공 여부, 감정 변화량)가 들어 있으므로 재적용 결과는 항상 같습니다.</p>
+ *
+ * <pre>
+ * 헤더 (6 바이트): int MAGIC("GBJL"), short VERSION
+ * 레코드 ({@value #RECORD_SIZE} 바이트):
+ *   byte   행동 ordinal
+ *   byte   플래그 (bit0: 성공, bit1: 결과 없음)
+ *   byte[] 감정 변화량 (Emotion ordinal 순)
+ *   int    일차
+ *   int    누적 턴 수 (행동 직전 기준)
+ *   int    CRC32 (앞의 필드 전체)
+ * </pre>
+ */
+public class ActionJournal implements Closeable {
+
+    public static final int MAGIC = 0x47424A4C; // "GBJL"
+    public static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 6;
+    static final int RECORD_SIZE = 1 + 1 + Emotion.COUNT + 4 + 4 + 4;
+
+    private static final int FLAG_SUCCESS = 1;
+    private static final int FLAG_NO_RESULT = 2;
+
+    /** 디스크 동기화(fsync) 정책 */
+    public enum FsyncPolicy {
+        /** 묶음 단위로 기록만 하고 동기화는 운영체제에 맡김 (가장 빠름) */
+        NEVER,
+        /** 묶음 단위로 기록 후 동기화 (묶음 크기만큼의 유실 허용) */
+        GROUP,
+        /** 레코드마다 기록 후 동기화 (가장 안전) */
+        ALWAYS
+    }
+
+    private final FileChannel channel;
+    private final FsyncPolicy policy;
+    private final int groupSize;
+    private final ByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+    private int pending;
+
+    private ActionJournal(FileChannel channel, FsyncPolicy policy, int groupSize) {
+        this.channel = channel;
+        this.policy = policy;
+        this.groupSize = (policy == FsyncPolicy.ALWAYS) ? 1 : groupSize;
+        this.buffer = ByteBuffer.allocate(RECORD_SIZE * this.groupSize);
+    }
+
+    /**
+     * 저널 파일을 열고(없으면 생성), 끝부분의 깨진 레코드를 잘라낸 뒤 이어서 기록할 준비를 합니다.
+     *
+     * @param path      저널 파일 경로
+     * @param policy    동기화 정책
+     * @param groupSize 한 번에 묶어서 기록할 레코드 수 (1 이상)
+     * @return 열린 저널
+     */
+    public static ActionJournal open(Path path, FsyncPolicy policy, int groupSize) throws IOException {
+        if (groupSize < 1) throw new IllegalArgumentException("groupSize 는 1 이상이어야 합니다: " + groupSize);
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long validEnd = (channel.size() == 0) ? writeHeader(channel) : scan(channel, null);
+            channel.truncate(validEnd);
+            channel.position(validEnd);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new ActionJournal(channel, policy, groupSize);
+    }
+
+    // ==============================
+    // 기록
+    // ==============================
+
+    /**
+     * 행동 하나를 기록합니다. 묶음이 차면 파일에 쓰고 정책에 따라 동기화합니다.
+     *
+     * @param action    수행한 행동
+     * @param result    행동 결과 (CSV 오류로 결과가 없으면 null)
+     * @param day       행동한 일차
+     * @param turnCount 행동 직전의 누적 턴 수
+     */
+    public void append(Action action, ActionResult result, int day, int turnCount) throws IOException {
+        int start = buffer.position();
+
+        int flags = (result == null) ? FLAG_NO_RESULT : (result.isSuccess() ? FLAG_SUCCESS : 0);
+        buffer.put((byte) action.ordinal());
+        buffer.put((byte) flags);
+        for (int i = 0; i < Emotion.COUNT; i++) {
+            buffer.put((byte) (result == null ? 0 : result.getEmotionDelta(Emotion.byOrdinal(i))));
+        }
+        buffer.putInt(day);
+        buffer.putInt(turnCount);
+
+        crc.reset();
+        crc.update(buffer.array(), start, RECORD_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+
+        if (++pending >= groupSize) flush();
+    }
+
+    /** 버퍼에 모인 레코드를 파일에 쓰고, 정책이 NEVER 가 아니면 동기화 */
+    public void flush() throws IOException {
+        if (pending == 0) return;
+
+        long start = Metrics.start();
+        buffer.flip();
+        int bytes = buffer.remaining();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+        pending = 0;
+
+        if (policy != FsyncPolicy.NEVER) channel.force(false);
+        Metrics.journal(start, bytes);
+    }
+
+    /** 새 스냅샷을 저장한 뒤 호출하여 저널을 비움 */
+    public void reset() throws IOException {
+        buffer.clear();
+        pending = 0;
+        channel.truncate(HEADER_SIZE);
+        channel.position(HEADER_SIZE);
+        channel.force(false);
+    }
+
+    /** 남은 레코드를 기록하고 닫음 */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ==============================
+    // 복구
+    // ==============================
+
+    /**
+     * 스냅샷에 저널의 레코드 중 스냅샷 이후의 것만 다시 적용하여 최신 상태를 만듭니다.
+     * 재적용 중에는 콩의 출력과 이벤트가 꺼지며, 끝나면 원래의 출력 대상과 이벤트 핸들러로 되돌립니다.
+     *
+     * @param path     저널 파일 경로
+     * @param snapshot 마지막으로 저장된 스냅샷
+     * @return 저널을 적용한 게임 상태와 적용한 레코드 수
+     */
+    public static Recovery recover(Path path, SaveData snapshot) throws IOException {
+        if (!Files.exists(path)) return new Recovery(snapshot, 0);
+
+        List<Record> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() >= HEADER_SIZE) scan(channel, records);
+        }
+
+        Beans bean = snapshot.getFarmer().getBean();
+        Consumer<String> sink = bean.getMessageSink();
+        Consumer<BeanEvents> handler = bean.getEventHandler();
+        bean.setMessageSink(null);
+        bean.setEventHandler(event -> {});
+
+        GameClock clock = new GameClock(snapshot.getDay(), snapshot.getTurnCount());
+        int applied = 0;
+        try {
+            for (Record record : records) {
+                if (record.turnCount < clock.getTurnCount()) continue; // 스냅샷에 이미 반영됨
+
+                bean.applyActionResult(record.result(bean.getName()), record.action.getKey());
+                clock.advance(bean);
+                applied++;
+            }
+        } finally {
+            // 호출한 쪽이 지정해 둔 출력과 핸들러로 되돌림
+            bean.setMessageSink(sink);
+            bean.setEventHandler(handler);
+        }
+        return new Recovery(new SaveData(snapshot.getFarmer(), clock.getDay(), clock.getTurnCount()), applied);
+    }
+
+    /** 복구 결과 */
+    public static final class Recovery {
+        private final SaveData data;
+        private final int replayed;
+
+        Recovery(SaveData data, int replayed) {
+            this.data = data;
+            this.replayed = replayed;
+        }
+
+        /** 저널까지 적용한 게임 상태 */
+        public SaveData getData() { return data; }
+
+        /** 다시 적용한 행동 수 */
+        public int getReplayed() { return replayed; }
+    }
+
+    // ==============================
+    // 파일 형식
+    // ==============================
+
+    private static long writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).flip();
+        channel.write(header, 0);
+        return HEADER_SIZE;
+    }
+
+    /**
+     * 헤더를 확인하고 유효한 레코드를 끝까지 읽습니다.
+     * 길이가 모자라거나 CRC 가 맞지 않는 레코드(기록 중 중단된 꼬리)에서 멈춥니다.
+     *
+     * @param channel 저널 파일
+     * @param out     읽은 레코드를 담을 목록 (null 이면 위치만 계산)
+     * @return 마지막 유효 레코드의 끝 위치
+     */
+    private static long scan(FileChannel channel, List<Record> out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IOException("행동 저널 파일 형식이 아닙니다.");
+        }
+        short version = header.getShort();
+        if (version != VERSION) throw new IOException("지원하지 않는 저널 버전입니다: " + version);
+
+        CRC32 crc = new CRC32();
+        ByteBuffer rec = ByteBuffer.allocate(RECORD_SIZE);
+        long position = HEADER_SIZE;
+        while (true) {
+            rec.clear();
+            while (rec.hasRemaining() && channel.read(rec, position + rec.position()) > 0) { }
+            if (rec.hasRemaining()) break;
+
+            crc.reset();
+            crc.update(rec.array(), 0, RECORD_SIZE - 4);
+            if ((int) crc.getValue() != rec.getInt(RECORD_SIZE - 4)) break;
+
+            if (out != null) out.add(Record.decode(rec));
+            position += RECORD_SIZE;
+        }
+        return position;
+    }
+
+    /** 저널 레코드 하나 */
+    static final class Record {
+        final Action action;
+        final int flags;
+        final int[] deltas;
+        final int day;
+        final int turnCount;
+
+        private Record(Action action, int flags, int[] deltas, int day, int turnCount) {
+            this.action = action;
+            this.flags = flags;
+            this.deltas = deltas;
+            this.day = day;
+            this.turnCount = turnCount;
+        }
+
+        static Record decode(ByteBuffer rec) {
+            Action action = Action.values()[rec.get(0)];
+            int flags = rec.get(1);
+            int[] deltas = new int[Emotion.COUNT];
+            for (int i = 0; i < deltas.length; i++) deltas[i] = rec.get(2 + i);
+            int day = rec.getInt(2 + Emotion.COUNT);
+            int turnCount = rec.getInt(2 + Emotion.COUNT + 4);
+            return new Record(action, flags, deltas, day, turnCount);
+        }
+
+        /** 기록된 추첨 결과로 ActionResult 재구성 (결과 없음이면 null) */
+        ActionResult result(String beanName) {
+            if ((flags & FLAG_NO_RESULT) != 0) return null;
+            return new ActionResult(beanName, "", "", deltas.clone(), (flags & FLAG_SUCCESS) != 0);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package save;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import core.Beans;
+import game.FarmManager;
+import game.Farmer;
+import metrics.Metrics;
+
+/**
+ * 여러 농부의 게임 상태를 하나의 메모리 매핑 파일에 보관하는 저장소.
+ * <p>농부마다 고정 크기 슬롯 하나를 배정하고, 농부 이름 → 슬롯 번호 색인을 메모리에 유지합니다.
+ * 턴마다 저장할 때는 슬롯의 값 중 실제로 바뀐 바이트만 덮어쓰므로,
+ * 한 턴의 저장 비용은 전체 직렬화가 아니라 몇 바이트의 dirty page 기록입니다.
+ * 디스크 반영은 {@link #checkpoint()} 또는 주기적 체크포인트에서 {@code force()}로 이루어집니다.</p>
+ *
+ * <pre>
+ * 헤더 (16 바이트): int MAGIC("GBFS"), short VERSION, short SLOT_SIZE, 8 바이트 예약
+ * 슬롯 ({@value #SLOT_SIZE} 바이트):
+ *   byte   사용 여부
+ *   byte   성격 번호
+ *   64     농부 이름 (short 길이 + UTF-8)
+ *   64     콩 이름 (short 길이 + UTF-8)
+ *   byte[] 콩 상태 (Beans.writeState)
+ *   int    일차
+ *   int    누적 턴 수
+ * </pre>
+ */
+public class FarmSaveStore implements Closeable {
+
+    public static final int MAGIC = 0x47424653; // "GBFS"
+    public static final short VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int SLOT_SIZE = 160;
+    static final int SLOTS_PER_CHUNK = 4096;
+
+    /** 이름 필드 크기 (길이 2 바이트 포함) */
+    static final int NAME_FIELD = 64;
+
+    /** 농부/콩 이름의 최대 UTF-8 바이트 수 */
+    public static final int MAX_NAME_BYTES = NAME_FIELD - 2;
+
+    // 슬롯 내부 오프셋
+    private static final int OFF_USED = 0;
+    private static final int OFF_TYPE = 1;
+    private static final int OFF_FARMER = 2;
+    private static final int OFF_BEAN = OFF_FARMER + NAME_FIELD;
+    private static final int OFF_STATE = OFF_BEAN + NAME_FIELD;
+    private static final int OFF_DAY = OFF_STATE + Beans.STATE_BYTES;
+    private static final int OFF_TURN = OFF_DAY + 4;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> chunks = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount;
+
+    private ScheduledExecutorService checkpointer;
+
+    // 스레드별 상태 인코딩 버퍼 (슬롯과 비교 후 바뀐 바이트만 기록)
+    private static final ThreadLocal<ByteArrayOutputStream> SCRATCH =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(Beans.STATE_BYTES));
+
+    private FarmSaveStore(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 저장소 파일을 열고(없으면 생성) 색인을 만듭니다.
+     *
+     * @param path 저장소 파일 경로
+     * @return 열린 저장소
+     * @throws IOException 파일 형식이 맞지 않거나 열 수 없는 경우
+     */
+    public static FarmSaveStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FarmSaveStore store = new FarmSaveStore(channel);
+        try {
+            store.init();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /** 헤더 검증 후 기존 슬롯을 매핑하고 색인 구성 */
+    private void init() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.size() == 0) {
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) SLOT_SIZE).flip();
+            channel.write(header, 0);
+        } else {
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("농장 저장소 파일 형식이 아닙니다.");
+            }
+            short version = header.getShort();
+            short slotSize = header.getShort();
+            if (version != VERSION || slotSize != SLOT_SIZE) {
+                throw new IOException("지원하지 않는 저장소 버전입니다: " + version + "/" + slotSize);
+            }
+        }
+
+        long slotBytes = channel.size() - HEADER_SIZE;
+        int chunkCount = (int) ((slotBytes + (long) SLOTS_PER_CHUNK * SLOT_SIZE - 1) / ((long) SLOTS_PER_CHUNK * SLOT_SIZE));
+        for (int c = 0; c < chunkCount; c++) mapChunk();
+
+        freeSlots.clear();
+        for (int slot = 0; slot < slotCount; slot++) {
+            ByteBuffer buf = chunkOf(slot);
+            int base = offsetOf(slot);
+            if (buf.get(base + OFF_USED) != 0) {
+                index.put(readName(buf, base + OFF_FARMER), slot);
+            } else {
+                freeSlots.add(slot);
+            }
+        }
+    }
+
+    /** 슬롯 묶음 하나를 파일 끝에 추가로 매핑 (기존 매핑은 그대로 유지) */
+    private void mapChunk() throws IOException {
+        long position = HEADER_SIZE + (long) chunks.size() * SLOTS_PER_CHUNK * SLOT_SIZE;
+        chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, position, (long) SLOTS_PER_CHUNK * SLOT_SIZE));
+        for (int i = 0; i < SLOTS_PER_CHUNK; i++) freeSlots.add(slotCount + i);
+        slotCount += SLOTS_PER_CHUNK;
+    }
+
+    private MappedByteBuffer chunkOf(int slot) {
+        return chunks.get(slot / SLOTS_PER_CHUNK);
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot % SLOTS_PER_CHUNK) * SLOT_SIZE;
+    }
+
+    // ==============================
+    // 저장 / 불러오기
+    // ==============================
+
+    /**
+     * 게임 상태를 저장합니다. 처음 저장하는 농부라면 빈 슬롯을 배정하고,
+     * 이미 있는 농부라면 슬롯에서 바뀐 바이트만 덮어씁니다.
+     * 같은 농부를 여러 스레드에서 동시에 저장하지 않아야 합니다.
+     *
+     * @param data 저장할 게임 상태 (농부 이름이 식별자)
+     * @throws IllegalArgumentException 농부나 콩의 이름이 {@value #MAX_NAME_BYTES} 바이트를 넘는 경우 (슬롯을 건드리기 전에 확인)
+     */
+    public void save(SaveData data) throws IOException {
+        long start = Metrics.start();
+        Farmer farmer = data.getFarmer();
+        Beans bean = farmer.getBean();
+        requireName(farmer.getName());
+        requireName(bean.getName());
+
+        Integer slot = index.get(farmer.getName());
+        if (slot == null) slot = allocate(farmer.getName());
+
+        ByteBuffer buf = chunkOf(slot);
+        int base = offsetOf(slot);
+
+        int written = putIfChanged(buf, base + OFF_TYPE, (byte) FarmManager.beanType(bean));
+        written += writeNameIfChanged(buf, base + OFF_BEAN, bean.getName());
+
+        ByteArrayOutputStream scratch = SCRATCH.get();
+        scratch.reset();
+        bean.writeState(new DataOutputStream(scratch));
+        byte[] state = scratch.toByteArray();
+        for (int i = 0; i < state.length; i++) written += putIfChanged(buf, base + OFF_STATE + i, state[i]);
+
+        if (buf.getInt(base + OFF_DAY) != data.getDay()) {
+            buf.putInt(base + OFF_DAY, data.getDay());
+            written += Integer.BYTES;
+        }
+        if (buf.getInt(base + OFF_TURN) != data.getTurnCount()) {
+            buf.putInt(base + OFF_TURN, data.getTurnCount());
+            written += Integer.BYTES;
+        }
+        Metrics.save(start, written);
+    }
+
+    /**
+     * 농부의 게임 상태를 불러옵니다.
+     *
+     * @param farmerName 농부 이름
+     * @return 저장된 게임 상태, 없으면 null
+     */
+    public SaveData load(String farmerName) throws IOException {
+        Integer slot = index.get(farmerName);
+        if (slot == null) return null;
+
+        ByteBuffer buf = chunkOf(slot);
+        int base = offsetOf(slot);
+
+        int type = buf.get(base + OFF_TYPE);
+        Beans bean = FarmManager.createBean(type, readName(buf, base + OFF_BEAN));
+        if (bean == null) throw new IOException("알 수 없는 콩 성격 번호입니다: " + type);
+
+        byte[] state = new byte[Beans.STATE_BYTES];
+        buf.get(base + OFF_STATE, state);
+        bean.readState(new DataInputStream(new ByteArrayInputStream(state)));
+
+        return new SaveData(new Farmer(farmerName, bean),
+                buf.getInt(base + OFF_DAY), buf.getInt(base + OFF_TURN));
+    }
+
+    /** 농부의 저장 데이터가 있는지 확인 */
+    public boolean contains(String farmerName) {
+        return index.containsKey(farmerName);
+    }
+
+    /** 농부의 저장 데이터 삭제 (슬롯은 재사용) */
+    public synchronized void remove(String farmerName) {
+        Integer slot = index.remove(farmerName);
+        if (slot == null) return;
+        chunkOf(slot).put(offsetOf(slot) + OFF_USED, (byte) 0);
+        freeSlots.add(slot);
+    }
+
+    /** 저장된 농부 수 */
+    public int size() {
+        return index.size();
+    }
+
+    /** 새 농부에게 빈 슬롯 배정 (모자라면 슬롯 묶음 추가) */
+    private synchronized int allocate(String farmerName) throws IOException {
+        Integer existing = index.get(farmerName);
+        if (existing != null) return existing;
+
+        if (freeSlots.isEmpty()) mapChunk();
+        int slot = freeSlots.poll();
+
+        ByteBuffer buf = chunkOf(slot);
+        int base = offsetOf(slot);
+        buf.put(base, new byte[SLOT_SIZE]);
+        writeNameIfChanged(buf, base + OFF_FARMER, farmerName);
+        buf.put(base + OFF_USED, (byte) 1);
+
+        index.put(farmerName, slot);
+        return slot;
+    }
+
+    // ==============================
+    // 체크포인트
+    // ==============================
+
+    /** 지금까지 바뀐 내용을 디스크에 반영 */
+    public void checkpoint() {
+        for (MappedByteBuffer chunk : chunks) chunk.force();
+    }
+
+    /**
+     * 주기적으로 체크포인트를 수행하는 백그라운드 스레드를 시작합니다.
+     *
+     * @param period 체크포인트 간격
+     * @param unit   간격 단위
+     */
+    public synchronized void scheduleCheckpoints(long period, TimeUnit unit) {
+        if (checkpointer != null) return;
+        checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "farm-store-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        checkpointer.scheduleAtFixedRate(this::checkpoint, period, period, unit);
+    }
+
+    /** 마지막 체크포인트 후 저장소를 닫음 */
+    @Override
+    public synchronized void close() throws IOException {
+        if (checkpointer != null) checkpointer.shutdownNow();
+        checkpoint();
+        channel.close();
+    }
+
+    // ==============================
+    // 필드 입출력
+    // ==============================
+
+    /** 값이 다를 때만 기록 (기록한 바이트 수 반환) */
+    private static int putIfChanged(ByteBuffer buf, int at, byte value) {
+        if (buf.get(at) == value) return 0;
+        buf.put(at, value);
+        return 1;
+    }
+
+    /** 이름 필드에 담을 수 있는 이름인지 ({@value #MAX_NAME_BYTES} 바이트 이하) */
+    public static boolean fitsName(String name) {
+        return name.getBytes(StandardCharsets.UTF_8).length <= MAX_NAME_BYTES;
+    }
+
+    private static void requireName(String name) {
+        if (!fitsName(name)) {
+            throw new IllegalArgumentException("이름이 너무 깁니다 (최대 " + MAX_NAME_BYTES + " 바이트): " + name);
+        }
+    }
+
+    /** 고정 크기 이름 필드에 기록 (같은 이름이면 기록하지 않음, 기록한 바이트 수 반환, 길이는 호출 전에 확인) */
+    private static int writeNameIfChanged(ByteBuffer buf, int at, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (buf.getShort(at) == bytes.length && name.equals(readName(buf, at))) return 0;
+
+        buf.putShort(at, (short) bytes.length);
+        buf.put(at + 2, bytes);
+        return 2 + bytes.length;
+    }
+
+    private static String readName(ByteBuffer buf, int at) {
+        byte[] bytes = new byte[buf.getShort(at)];
+        buf.get(at + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
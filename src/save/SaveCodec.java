@@ -0,0 +1,110 @@
+package save;
+
+import java.io.*;
+
+import core.Beans;
+import game.FarmManager;
+import game.Farmer;
+
+/**
+ * 게임 상태를 버전이 있는 바이너리 스냅샷으로 기록하고 읽는 코덱.
+ * <p>Java 직렬화와 달리 클래스 정보 없이 필요한 값만 고정 길이로 기록하므로
+ * 작고 빠르며, 클래스 구조가 바뀌어도 형식 버전만 맞으면 읽을 수 있습니다.</p>
+ *
+ * <pre>
+ * int    MAGIC ("GBSV")
+ * short  VERSION
+ * UTF    농부 이름
+ * UTF    콩 이름
+ * byte   성격 번호 (FarmManager.createBean 기준)
+ * byte[] 콩 상태 (Beans.writeState, Beans.STATE_BYTES 바이트)
+ * int    일차
+ * int    누적 턴 수
+ * </pre>
+ */
+public final class SaveCodec {
+
+    /** 파일 식별자 "GBSV" */
+    public static final int MAGIC = 0x47425356;
+
+    /** 현재 형식 버전 */
+    public static final short VERSION = 1;
+
+    private SaveCodec() {}
+
+    /**
+     * 게임 상태를 기록합니다.
+     *
+     * @param out  기록 대상
+     * @param data 저장할 게임 상태
+     */
+    public static void write(DataOutput out, SaveData data) throws IOException {
+        Farmer farmer = data.getFarmer();
+        Beans bean = farmer.getBean();
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeUTF(farmer.getName());
+        out.writeUTF(bean.getName());
+        out.writeByte(FarmManager.beanType(bean));
+        bean.writeState(out);
+        out.writeInt(data.getDay());
+        out.writeInt(data.getTurnCount());
+    }
+
+    /**
+     * 기록된 게임 상태를 읽습니다.
+     *
+     * @param in 읽을 대상
+     * @return 게임 상태
+     * @throws IOException 형식이 맞지 않거나 지원하지 않는 버전인 경우
+     */
+    public static SaveData read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("세이브 파일 형식이 아닙니다.");
+
+        short version = in.readShort();
+        if (version != VERSION) throw new IOException("지원하지 않는 세이브 버전입니다: " + version);
+
+        String farmerName = in.readUTF();
+        String beanName = in.readUTF();
+        int type = in.readByte();
+
+        Beans bean = FarmManager.createBean(type, beanName);
+        if (bean == null) throw new IOException("알 수 없는 콩 성격 번호입니다: " + type);
+        bean.readState(in);
+
+        int day = in.readInt();
+        int turnCount = in.readInt();
+        return new SaveData(new Farmer(farmerName, bean), day, turnCount);
+    }
+
+    /** 게임 상태를 바이트 배열로 변환 */
+    public static byte[] encode(SaveData data) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            write(new DataOutputStream(bytes), data);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림에서는 발생하지 않음
+        }
+    }
+
+    /** 바이트 배열에서 게임 상태 복원 */
+    public static SaveData decode(byte[] bytes) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * 파일이 이 형식으로 저장되었는지 확인합니다. (아니면 이전 Java 직렬화 형식)
+     *
+     * @param file 확인할 파일
+     * @return 바이너리 스냅샷이면 true
+     */
+    public static boolean isBinary(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package save;
+
+import game.Farmer;
+
+/**
+ * 세이브 파일 하나에 담기는 게임 진행 상태.
+ */
+public class SaveData {
+
+    private final Farmer farmer;
+    private final int day;
+    private final int turnCount;
+
+    /**
+     * @param farmer    농부 (키우는 콩 포함)
+     * @param day       현재 일차
+     * @param turnCount 누적 턴 수
+     */
+    public SaveData(Farmer farmer, int day, int turnCount) {
+        this.farmer = farmer;
+        this.day = day;
+        this.turnCount = turnCount;
+    }
+
+    public Farmer getFarmer() { return farmer; }
+    public int getDay() { return day; }
+    public int getTurnCount() { return turnCount; }
+}
@@ -0,0 +1,208 @@
+package server;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import core.Action;
+import core.Beans;
+import core.Personality;
+import core.PersonalityRegistry;
+import game.FarmManager;
+import game.Farmer;
+import game.GameClock;
+import save.FarmSaveStore;
+import save.SaveData;
+
+/**
+ * 접속 하나가 키우는 농장 하나의 상태와 명령 처리.
+ * <p>콘솔 게임({@link FarmManager})과 같은 규칙(하루 {@link FarmManager#TURNS_PER_DAY} 턴, 하루 끝 감정 변화)으로 진행하며,
+ * 콩의 대사와 이벤트는 전역 출력 창구 대신 이 세션의 응답으로 모읍니다.</p>
+ * <p>저장소({@link FarmSaveStore})가 주어지면 농장을 만들거나 불러올 때와 매 턴마다 농부 이름의 슬롯에 저장하며,
+ * 같은 농부 이름은 한 번에 한 접속에서만 진행할 수 있습니다. (저장소는 같은 농부를 동시에 저장하지 않아야 함)
+ * 이미 저장된 농부 이름으로는 new 를 받지 않고 load 를 안내하므로, 접속하지 않은 농부의 농장을 덮어쓰지 않습니다.</p>
+ * <p>{@link GameServer}가 한 세션의 명령을 한 번에 하나씩만 처리하며, 접속 종료({@link #release()})와의 순서만 잠금으로 맞춥니다.</p>
+ */
+final class FarmSession {
+
+    private final FarmSaveStore store;
+    private final Set<String> activeFarmers;
+
+    private Farmer farmer;
+    private final GameClock clock = new GameClock();
+    private boolean closed;
+
+    // 명령 하나를 처리하는 동안의 응답 본문
+    private final StringBuilder body = new StringBuilder();
+
+    /**
+     * @param store         농장 저장소 (null 이면 저장하지 않음)
+     * @param activeFarmers 서버 전체에서 진행 중인 농부 이름 (세션끼리 공유)
+     */
+    FarmSession(FarmSaveStore store, Set<String> activeFarmers) {
+        this.store = store;
+        this.activeFarmers = activeFarmers;
+    }
+
+    /**
+     * 명령 한 줄을 처리하고 응답을 반환합니다.
+     *
+     * @param line 명령 줄 (줄바꿈 제외)
+     * @return 응답 ("| " 로 시작하는 본문 줄 0개 이상 + 마지막 "OK ..." 또는 "ERR ..." 줄, 줄마다 \n)
+     */
+    synchronized String handle(String line) {
+        body.setLength(0);
+        String[] parts = line.trim().split("\\s+", 4);
+        String command = parts[0];
+
+        try {
+            switch (command) {
+                case "new":    return newFarm(parts);
+                case "load":   return loadFarm(parts);
+                case "feed":   return turn(Action.EAT);
+                case "rest":   return turn(Action.REST);
+                case "play":   return turn(Action.PLAY);
+                case "heal":   return turn(Action.HEAL);
+                case "goOut":  return turn(Action.GO_OUT);
+                case "work":   return turn(Action.WORK);
+                case "status": return status();
+                case "quit":
+                    release();
+                    closed = true;
+                    return ok();
+                default:
+                    return error("알 수 없는 명령: " + command);
+            }
+        } catch (RuntimeException e) {
+            return error("처리 중 오류: " + e.getMessage());
+        }
+    }
+
+    /** quit 명령을 받았는지 */
+    boolean isClosed() { return closed; }
+
+    /** 진행 중인 농부 이름을 내려놓음 (quit 또는 접속 종료 시) */
+    synchronized void release() {
+        if (farmer != null) activeFarmers.remove(farmer.getName());
+        farmer = null;
+    }
+
+    // ==============================
+    // 명령
+    // ==============================
+
+    /** new 성격번호 농부이름 콩이름 */
+    private String newFarm(String[] parts) {
+        if (parts.length < 4) return error("사용법: new <성격 번호> <농부 이름> <콩 이름>");
+
+        int type;
+        try {
+            type = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            return error("성격 번호가 아닙니다: " + parts[1]);
+        }
+        Personality personality = PersonalityRegistry.byId(type);
+        if (personality == null) return error("알 수 없는 성격 번호: " + type);
+
+        if (!FarmSaveStore.fitsName(parts[2]) || !FarmSaveStore.fitsName(parts[3])) {
+            return error("이름이 너무 깁니다 (최대 " + FarmSaveStore.MAX_NAME_BYTES + " 바이트)");
+        }
+        if (store != null && store.contains(parts[2])) {
+            return error("이미 저장된 농장이 있습니다. load " + parts[2] + " 로 이어서 진행하세요.");
+        }
+
+        Beans bean = FarmManager.createBean(type, parts[3]);
+        if (!claim(parts[2])) return error("다른 접속에서 진행 중인 농부입니다: " + parts[2]);
+        farmer = new Farmer(parts[2], bean);
+        clock.reset();
+        attach(bean);
+        save();
+        append(parts[2] + "님의 " + personality.getName() + " " + bean.getName() + "이(가) 태어났습니다.");
+        return ok();
+    }
+
+    /** load 농부이름 (저장소에서 이어서 진행) */
+    private String loadFarm(String[] parts) {
+        if (parts.length < 2) return error("사용법: load <농부 이름>");
+        if (store == null) return error("저장소 없이 실행 중인 서버입니다.");
+
+        SaveData data;
+        try {
+            data = store.load(parts[1]);
+        } catch (IOException e) {
+            return error("불러오기 실패: " + e.getMessage());
+        }
+        if (data == null) return error("저장된 농장이 없습니다: " + parts[1]);
+        if (!claim(parts[1])) return error("다른 접속에서 진행 중인 농부입니다: " + parts[1]);
+
+        farmer = data.getFarmer();
+        clock.set(data.getDay(), data.getTurnCount());
+        attach(farmer.getBean());
+        append(parts[1] + "님의 " + farmer.getBean().getName() + "을(를) 불러왔습니다.");
+        return ok();
+    }
+
+    /** 지금 농장을 내려놓고 농부 이름을 이 세션에 배정 (같은 이름이면 그대로 유지) */
+    private boolean claim(String farmerName) {
+        if (farmer != null && farmer.getName().equals(farmerName)) return true;
+        if (!activeFarmers.add(farmerName)) return false;
+        release();
+        return true;
+    }
+
+    /** 콩의 대사와 이벤트를 이 세션의 응답으로 연결 */
+    private void attach(Beans bean) {
+        bean.setMessageSink(this::append);
+        bean.setEventHandler(event -> append("[이벤트] " + event.getMessage()));
+        // 공유 기본 생성기 대신 농장마다 생성기 (작업 스레드 간 경합 방지)
+        bean.setRandom(new SplittableRandom());
+    }
+
+    /** 저장소의 농부 슬롯에 현재 상태 기록 (바뀐 바이트만 기록됨) */
+    private void save() {
+        if (store == null) return;
+        try {
+            store.save(new SaveData(farmer, clock.getDay(), clock.getTurnCount()));
+        } catch (IOException | IllegalArgumentException e) {
+            append("[저장 실패] " + e.getMessage());
+        }
+    }
+
+    /** 행동 한 턴 (FarmManager 의 턴 진행과 같음) */
+    private String turn(Action action) {
+        if (farmer == null) return error("먼저 new 로 농장을 만드세요.");
+
+        farmer.act(action);
+        if (clock.advance(farmer.getBean())) append("하루가 저물고 다음 날이 밝았습니다.");
+        save();
+        return ok();
+    }
+
+    private String status() {
+        if (farmer == null) return error("먼저 new 로 농장을 만드세요.");
+        Beans bean = farmer.getBean();
+        append("농부: " + farmer.getName() + ", 콩: " + bean.getName() + " (" + bean.getPersonalityName() + ")");
+        append(bean.statusText());
+        return ok();
+    }
+
+    // ==============================
+    // 응답 조립
+    // ==============================
+
+    /** 본문에 추가 (여러 줄이면 줄마다 접두어) */
+    private void append(String text) {
+        for (String line : text.split("\n")) {
+            if (line.isBlank()) continue;
+            body.append("| ").append(line).append('\n');
+        }
+    }
+
+    private String ok() {
+        return body.append("OK ").append(clock.getDay()).append(' ').append(clock.getTurnCount()).append('\n').toString();
+    }
+
+    private String error(String reason) {
+        return body.append("ERR ").append(reason.replace('\n', ' ')).append('\n').toString();
+    }
+}
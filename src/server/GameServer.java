@@ -0,0 +1,353 @@
+package server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import metrics.Metrics;
+import output.Output;
+import save.FarmSaveStore;
+
+/**
+ * 여러 농장을 한 JVM 에서 동시에 진행하는 논블로킹 TCP 게임 서버.
+ * <p>선택자(Selector) 스레드 하나가 접속/읽기/쓰기를 모두 맡고, 명령 처리는 작업 스레드 풀에서 합니다.
+ * 접속마다 농장({@link FarmSession}) 하나와 명령 대기열을 두며, 한 농장의 명령은 한 번에 하나의 작업 스레드만
+ * 순서대로 처리하므로 농장끼리는 잠금 없이 병렬로 진행됩니다.</p>
+ *
+ * <pre>
+ * 요청 (한 줄, UTF-8)
+ *   new &lt;성격 번호&gt; &lt;농부 이름&gt; &lt;콩 이름&gt;
+ *   load &lt;농부 이름&gt;       (저장소가 있을 때, 저장된 농장 이어서 진행)
+ *   feed | rest | play | heal | goOut | work
+ *   status
+ *   quit
+ * 응답
+ *   | &lt;본문 줄&gt;            (0줄 이상: 대사, 이벤트, 상태)
+ *   OK &lt;일차&gt; &lt;턴&gt;       또는   ERR &lt;사유&gt;
+ * </pre>
+ * <p>응답을 기다리지 않고 여러 명령을 이어 보내도 되며, 응답은 보낸 순서대로 돌아옵니다.</p>
+ * <p>농장 상태는 매 턴 메모리 매핑 저장소({@link FarmSaveStore})의 농부별 슬롯에 바뀐 바이트만 기록되고,
+ * 디스크 반영은 주기적 체크포인트가 맡습니다.</p>
+ */
+public final class GameServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 7070;
+
+    /** 농장 저장소 파일을 지정하는 시스템 속성 (기본 farms.store, 빈 값이면 저장하지 않음) */
+    public static final String STORE_PROPERTY = "growbean.farmStore";
+
+    /** 저장소 체크포인트 간격 (초) */
+    private static final int CHECKPOINT_SECONDS = 1;
+
+    /** 명령 한 줄의 최대 길이 (바이트) */
+    private static final int MAX_LINE = 1024;
+
+    /** 접속 하나에 쌓일 수 있는 미처리 명령 수 (넘으면 처리될 때까지 읽기 중지) */
+    private static final int MAX_PENDING = 64;
+
+    /** 작업 스레드가 한 번에 처리할 최대 명령 수 (한 농장이 스레드를 독점하지 않도록) */
+    private static final int BATCH = 16;
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final ExecutorService workers;
+    private final FarmSaveStore store;
+
+    // 진행 중인 농부 이름 (같은 농부를 두 접속에서 동시에 진행하지 않도록)
+    private final Set<String> activeFarmers = ConcurrentHashMap.newKeySet();
+
+    // 작업 스레드가 응답을 만든 접속 (선택자 스레드가 꺼내서 씀)
+    private final Queue<Connection> writable = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile boolean running = true;
+
+    /**
+     * @param address 수신할 주소 (포트 0 이면 빈 포트)
+     * @param threads 명령 처리 작업 스레드 수
+     * @throws IOException 포트를 열지 못했을 때
+     */
+    public GameServer(InetSocketAddress address, int threads) throws IOException {
+        this(address, threads, null);
+    }
+
+    /**
+     * @param address 수신할 주소 (포트 0 이면 빈 포트)
+     * @param threads 명령 처리 작업 스레드 수
+     * @param store   농장 저장소 (null 이면 저장하지 않음, 닫는 것은 호출한 쪽의 몫)
+     * @throws IOException 포트를 열지 못했을 때
+     */
+    public GameServer(InetSocketAddress address, int threads, FarmSaveStore store) throws IOException {
+        this.store = store;
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(address, 1024);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger ids = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "farm-worker-" + ids.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** 실제로 수신 중인 포트 */
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    /** 현재 접속 수 */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    // ==============================
+    // 선택자 루프
+    // ==============================
+
+    /** {@link #close()} 될 때까지 접속을 처리합니다. (호출한 스레드가 선택자 스레드가 됨) */
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                for (Connection c; (c = writable.poll()) != null; ) c.flush();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection c = (Connection) key.attachment();
+                    if (key.isReadable()) c.read();
+                    if (key.isValid() && key.isWritable()) c.flush();
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) Output.error("[서버] 선택자 오류: " + e.getMessage());
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection c = new Connection(channel);
+            c.key = channel.register(selector, SelectionKey.OP_READ, c);
+            connections.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void shutdown() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) ((Connection) key.attachment()).close();
+        }
+        try {
+            server.close();
+            selector.close();
+        } catch (IOException ignored) {
+        }
+        workers.shutdown();
+    }
+
+    // ==============================
+    // 접속
+    // ==============================
+
+    /** 접속 하나 (농장 하나) */
+    private final class Connection {
+        private final SocketChannel channel;
+        private SelectionKey key;
+
+        private final ByteBuffer input = ByteBuffer.allocate(MAX_LINE);
+        private final FarmSession session = new FarmSession(store, activeFarmers);
+
+        // 선택자 스레드 → 작업 스레드
+        private final Queue<String> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        // 작업 스레드 → 선택자 스레드
+        private final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+        private volatile boolean closing;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /** 읽은 바이트를 줄로 나누어 명령 대기열에 넣음 (선택자 스레드) */
+        void read() {
+            int n;
+            try {
+                n = channel.read(input);
+            } catch (IOException e) {
+                n = -1;
+            }
+            if (n < 0) {
+                close();
+                return;
+            }
+
+            input.flip();
+            int start = input.position();
+            for (int i = start; i < input.limit(); i++) {
+                if (input.get(i) != '\n') continue;
+                int end = (i > start && input.get(i - 1) == '\r') ? i - 1 : i;
+                String line = new String(input.array(), start, end - start, StandardCharsets.UTF_8);
+                if (!line.isBlank()) {
+                    commands.add(line);
+                    pending.incrementAndGet();
+                }
+                start = i + 1;
+            }
+            input.position(start);
+            input.compact();
+
+            if (!input.hasRemaining()) {
+                // 줄바꿈 없이 버퍼가 가득 참
+                outbox.add(encode("ERR 명령이 너무 깁니다.\n"));
+                closing = true;
+                flush();
+                return;
+            }
+
+            if (pending.get() >= MAX_PENDING) key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            schedule();
+        }
+
+        /** 대기 중인 명령이 있고 처리 중이 아니면 작업 스레드에 맡김 */
+        void schedule() {
+            if (!commands.isEmpty() && !closing && scheduled.compareAndSet(false, true)) {
+                try {
+                    workers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false); // 서버 종료 중
+                }
+            }
+        }
+
+        /** 명령을 순서대로 처리하고 응답을 쌓음 (작업 스레드, 한 번에 하나만 실행) */
+        private void drain() {
+            try {
+                String line;
+                for (int i = 0; i < BATCH && (line = commands.poll()) != null; i++) {
+                    pending.decrementAndGet();
+                    outbox.add(encode(session.handle(line)));
+                    if (session.isClosed()) {
+                        closing = true;
+                        break;
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                writable.add(this);
+                selector.wakeup();
+                schedule();
+            }
+        }
+
+        /** 쌓인 응답을 가능한 만큼 씀 (선택자 스레드) */
+        void flush() {
+            if (!key.isValid()) return;
+            try {
+                for (ByteBuffer buffer; (buffer = outbox.peek()) != null; outbox.poll()) {
+                    channel.write(buffer);
+                    if (buffer.hasRemaining()) break;
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+
+            if (closing && outbox.isEmpty()) {
+                close();
+                return;
+            }
+            int ops = 0;
+            if (pending.get() < MAX_PENDING && !closing) ops |= SelectionKey.OP_READ;
+            if (!outbox.isEmpty()) ops |= SelectionKey.OP_WRITE;
+            key.interestOps(ops);
+        }
+
+        void close() {
+            if (!key.isValid()) return;
+            key.cancel();
+            closing = true;
+            connections.decrementAndGet();
+            session.release();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static ByteBuffer encode(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /** 사용법: java [-Dgrowbean.farmStore=파일] server.GameServer [포트] [작업 스레드 수] */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String storeFile = System.getProperty(STORE_PROPERTY, "farms.store");
+
+        Metrics.install();
+        FarmSaveStore store = null;
+        if (!storeFile.isEmpty()) {
+            store = FarmSaveStore.open(Paths.get(storeFile));
+            store.scheduleCheckpoints(CHECKPOINT_SECONDS, TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(store::checkpoint, "farm-store-final-checkpoint"));
+        }
+
+        GameServer server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), threads, store);
+        // 콩의 대사와 이벤트는 접속별 응답으로 나가므로, 콘솔에는 CSV 오류 등만 출력됨
+        Output.line("[서버] 127.0.0.1:" + server.getPort() + " 에서 대기 중 (작업 스레드 " + threads
+                + (store == null ? ", 저장 안 함)" : ", 저장소 " + storeFile + " 농장 " + store.size() + "개)"));
+        try {
+            server.run();
+        } finally {
+            if (store != null) store.close();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package simulation;
+
+import core.Action;
+import core.Beans;
+import core.Emotion;
+import game.FarmManager;
+import utils.Utils;
+
+/**
+ * 시뮬레이션에서 매 턴 콩에게 어떤 행동을 시킬지 결정하는 정책.
+ * <p>플레이어의 입력을 대신하며, 람다로 간단히 정의할 수 있습니다.
+ * 병렬 시뮬레이션에서 여러 스레드가 공유하므로 상태를 갖지 않아야 하며,
+ * 난수가 필요하면 콩의 {@link Beans#getRandom()}을 사용합니다.</p>
+ */
+@FunctionalInterface
+public interface ActionPolicy {
+
+    /**
+     * 다음 행동을 선택합니다.
+     *
+     * @param bean 행동할 콩
+     * @param day  현재 일차 (1부터 시작)
+     * @param turn 하루 중 턴 번호 (0부터 시작)
+     * @return 수행할 행동
+     */
+    Action next(Beans bean, int day, int turn);
+
+    // ==============================
+    // 기본 정책
+    // ==============================
+
+    /** 항상 같은 행동만 반복 */
+    static ActionPolicy always(Action action) {
+        return (bean, day, turn) -> action;
+    }
+
+    /** 주어진 행동들을 턴 순서대로 돌아가며 수행 (날이 바뀌어도 처음으로 돌아가지 않고 이어서) */
+    static ActionPolicy cycle(Action... actions) {
+        Action[] copy = actions.clone();
+        return (bean, day, turn) -> copy[(int) (((long) (day - 1) * FarmManager.TURNS_PER_DAY + turn) % copy.length)];
+    }
+
+    /** 모든 행동 중 무작위 선택 (콩의 난수 생성기 사용) */
+    static ActionPolicy random() {
+        Action[] all = Action.values();
+        return (bean, day, turn) -> all[Utils.range(bean.getRandom(), 0, all.length - 1)];
+    }
+
+    /** 상태를 보고 돌보는 정책 (체력 → 허기 → 스트레스 순으로 챙기고, 여유가 있으면 놀기) */
+    static ActionPolicy caring() {
+        return (bean, day, turn) -> {
+            if (bean.getEnergy() < 30) return Action.HEAL;
+            if (bean.getEmotion(Emotion.HUNGER) >= 70) return Action.EAT;
+            if (bean.getEmotion(Emotion.STRESS) >= 70) return Action.REST;
+            return Action.PLAY;
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import core.Action;
+import core.Emotion;
+import core.Personality;
+import core.PersonalityRegistry;
+import exceptions.EventType;
+import game.FarmManager;
+
+/**
+ * 대사 CSV(성공 확률, 감정 변화 범위)의 밸런스를 보는 몬테카를로 분석기.
+ * <p>성격마다 여러 행동 정책으로 대량의 콩을 {@link PopulationSimulation}에 돌려,
+ * 일자별 감정/에너지 추이, 이벤트 빈도, 기절까지 걸린 일수 분포, 우세 전략을 보고합니다.</p>
+ * <p>콩 무리는 묶음(batch) 단위로 만들어 돌리고 결과({@link SimulationResult}, {@link Trajectory})만 합치므로,
+ * 전체 턴 수와 관계없이 메모리는 묶음 하나 크기만 씁니다. 묶음 안에서는 구간별로 여러 코어에 나누어 실행합니다.
+ * 같은 묶음 번호는 모든 성격/정책에서 같은 시드를 쓰므로(공통 난수), 정책 간 차이가 난수 차이에 덜 묻힙니다.</p>
+ */
+public final class BalanceAnalyzer {
+
+    /** 좋은 이벤트 (나머지는 나쁜 이벤트로 봄) */
+    private static final EnumSet<EventType> GOOD_EVENTS = EnumSet.of(EventType.LOVEFUL, EventType.GROWTH);
+
+    private final int days;
+    private final int threads;
+    private final long seed;
+    private int batchSize = 1 << 18;
+    private Map<String, PopulationPolicy> policies = defaultPolicies();
+
+    /**
+     * @param days    콩마다 시뮬레이션할 일 수
+     * @param threads 사용할 스레드 수
+     * @param seed    마스터 시드
+     */
+    public BalanceAnalyzer(int days, int threads, long seed) {
+        if (days < 1) throw new IllegalArgumentException("days 는 1 이상이어야 합니다: " + days);
+        this.days = days;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /** 한 번에 만들어 돌릴 콩 수 (메모리 사용량을 정함) */
+    public BalanceAnalyzer batchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다: " + batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /** 비교할 정책 (이름 → 정책, 상태를 갖지 않아야 함) */
+    public BalanceAnalyzer policies(Map<String, PopulationPolicy> policies) {
+        this.policies = new LinkedHashMap<>(policies);
+        return this;
+    }
+
+    /** 기본 정책: 무작위, 돌보기, 모든 행동 순환, 한 가지 행동만 반복 */
+    public static Map<String, PopulationPolicy> defaultPolicies() {
+        Map<String, PopulationPolicy> policies = new LinkedHashMap<>();
+        policies.put("random", PopulationPolicy.random());
+        policies.put("caring", PopulationPolicy.caring());
+        policies.put("rotate", PopulationPolicy.cycle(Action.values()));
+        for (Action action : Action.values()) policies.put("always-" + action.getKey(), PopulationPolicy.always(action));
+        return policies;
+    }
+
+    // ==============================
+    // 결과
+    // ==============================
+
+    /** 성격 하나 × 정책 하나의 분석 결과 */
+    public static final class Cell {
+        private final Personality personality;
+        private final String policy;
+        private final SimulationResult result;
+
+        Cell(Personality personality, String policy, SimulationResult result) {
+            this.personality = personality;
+            this.policy = policy;
+            this.result = result;
+        }
+
+        public Personality getPersonality() { return personality; }
+        public String getPolicy() { return policy; }
+        public SimulationResult getResult() { return result; }
+        public Trajectory getTrajectory() { return result.getTrajectory(); }
+
+        /** 콩 한 마리당 이벤트 횟수 */
+        public double perBean(EventType type) {
+            return (double) result.getEventCount(type) / result.getBeans();
+        }
+
+        /** 콩 한 마리당 좋은 이벤트 횟수 */
+        public double goodPerBean() {
+            double sum = 0;
+            for (EventType type : GOOD_EVENTS) sum += perBean(type);
+            return sum;
+        }
+
+        /** 콩 한 마리당 나쁜 이벤트 횟수 */
+        public double badPerBean() {
+            double sum = 0;
+            for (EventType type : EventType.values()) {
+                if (!GOOD_EVENTS.contains(type)) sum += perBean(type);
+            }
+            return sum;
+        }
+
+        /** 마지막 날 기절 상태인 콩 비율 */
+        public double faintedRatio() {
+            return (double) result.getFaintedBeans() / result.getBeans();
+        }
+
+        /** other 보다 모든 기준(기절 비율, 나쁜 이벤트, 좋은 이벤트)에서 같거나 낫고 하나 이상 나은지 */
+        boolean dominates(Cell other) {
+            boolean noWorse = faintedRatio() <= other.faintedRatio() && badPerBean() <= other.badPerBean()
+                    && goodPerBean() >= other.goodPerBean();
+            boolean better = faintedRatio() < other.faintedRatio() || badPerBean() < other.badPerBean()
+                    || goodPerBean() > other.goodPerBean();
+            return noWorse && better;
+        }
+    }
+
+    // ==============================
+    // 실행
+    // ==============================
+
+    /**
+     * 모든 성격 × 정책 조합을 실행합니다.
+     *
+     * @param beansPerCell 조합마다 시뮬레이션할 콩 수
+     * @return 조합별 결과 (성격 순, 같은 성격 안에서는 정책 순)
+     */
+    public List<Cell> run(int beansPerCell) {
+        int batches = (beansPerCell + batchSize - 1) / batchSize;
+        long[] batchSeeds = new long[batches];
+        SplittableRandom master = new SplittableRandom(seed);
+        for (int b = 0; b < batches; b++) batchSeeds[b] = master.nextLong();
+
+        PopulationSimulation simulation = new PopulationSimulation(days, threads, true);
+        List<Cell> cells = new ArrayList<>();
+        for (Personality personality : PersonalityRegistry.all()) {
+            for (Map.Entry<String, PopulationPolicy> policy : policies.entrySet()) {
+                SimulationResult total = new SimulationResult(new Trajectory(days));
+                for (int b = 0; b < batches; b++) {
+                    int n = Math.min(batchSize, beansPerCell - b * batchSize);
+                    BeanPopulation population = new BeanPopulation(n);
+                    for (int i = 0; i < n; i++) population.add(personality.getId(), "");
+                    population.seed(batchSeeds[b]);
+                    total.merge(simulation.run(population, policy.getValue()));
+                }
+                cells.add(new Cell(personality, policy.getKey(), total));
+            }
+        }
+        return cells;
+    }
+
+    // ==============================
+    // 보고
+    // ==============================
+
+    /**
+     * 성격별 정책 비교표, 우세 전략, 이벤트 빈도, 우세 전략의 감정 추이를 문자열로 만듭니다.
+     *
+     * @param cells {@link #run} 결과
+     * @return 보고서
+     */
+    public static String report(List<Cell> cells) {
+        StringBuilder sb = new StringBuilder();
+        Map<Personality, List<Cell>> byPersonality = new LinkedHashMap<>();
+        for (Cell cell : cells) byPersonality.computeIfAbsent(cell.personality, p -> new ArrayList<>()).add(cell);
+
+        for (Map.Entry<Personality, List<Cell>> entry : byPersonality.entrySet()) {
+            Personality personality = entry.getKey();
+            List<Cell> group = entry.getValue();
+            sb.append(String.format("%n[%s (%s)]%n", personality.getName(), personality.getDialogFile()));
+
+            // 정책 비교표
+            sb.append(String.format("  %-14s %7s %9s %9s %11s %9s %9s%n",
+                    "정책", "성공률", "기절(끝)", "기절 경험", "기절일 p10/p50", "좋은/마리", "나쁜/마리"));
+            for (Cell cell : group) {
+                Trajectory t = cell.getTrajectory();
+                sb.append(String.format("  %-14s %7.3f %8.1f%% %8.1f%% %6s/%-5s %9.2f %9.2f%n",
+                        cell.policy, cell.result.getSuccessRate(), cell.faintedRatio() * 100, t.getEverFaintedRatio() * 100,
+                        dayText(t.daysToFaintQuantile(0.1)), dayText(t.daysToFaintQuantile(0.5)),
+                        cell.goodPerBean(), cell.badPerBean()));
+            }
+
+            // 우세 전략 (다른 정책에 지배되지 않는 정책)
+            List<Cell> front = new ArrayList<>();
+            for (Cell cell : group) {
+                boolean dominated = false;
+                for (Cell other : group) dominated |= other.dominates(cell);
+                if (!dominated) front.add(cell);
+            }
+            sb.append("  우세 전략:");
+            for (Cell cell : front) sb.append(' ').append(cell.policy);
+            sb.append('\n');
+
+            // 이벤트 빈도 (마리당)
+            sb.append(String.format("  %-14s", "이벤트/마리"));
+            for (EventType type : EventType.values()) sb.append(String.format(" %8.8s", type.name()));
+            sb.append('\n');
+            for (Cell cell : group) {
+                sb.append(String.format("  %-14s", cell.policy));
+                for (EventType type : EventType.values()) sb.append(String.format(" %8.2f", cell.perBean(type)));
+                sb.append('\n');
+            }
+
+            // 우세 전략의 감정 추이
+            for (Cell cell : front) appendTrajectory(sb, cell);
+        }
+        return sb.toString();
+    }
+
+    private static void appendTrajectory(StringBuilder sb, Cell cell) {
+        Trajectory t = cell.getTrajectory();
+        sb.append(String.format("  감정 추이 (%s, 하루를 마친 뒤 평균)%n", cell.policy));
+        sb.append(String.format("  %5s %7s", "일차", "에너지"));
+        for (Emotion e : Emotion.values()) sb.append(String.format(" %8.8s", e.name()));
+        sb.append('\n');
+        int step = Math.max(1, t.getDays() / 6);
+        for (int day = 1; day <= t.getDays(); day += step) appendDay(sb, t, day);
+        if ((t.getDays() - 1) % step != 0) appendDay(sb, t, t.getDays());
+    }
+
+    private static void appendDay(StringBuilder sb, Trajectory t, int day) {
+        sb.append(String.format("  %5d %7.1f", day, t.getAverageEnergy(day)));
+        for (Emotion e : Emotion.values()) sb.append(String.format(" %8.1f", t.getAverageEmotion(day, e)));
+        sb.append('\n');
+    }
+
+    private static String dayText(int day) {
+        return day < 0 ? "-" : Integer.toString(day);
+    }
+
+    /**
+     * 조합별 일자별 추이 전체를 CSV 로 씁니다. (스프레드시트에서 그래프를 그리는 용도)
+     *
+     * @param cells {@link #run} 결과
+     * @param file  출력 파일
+     * @throws IOException 쓰기 실패
+     */
+    public static void writeCsv(List<Cell> cells, Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("personality,policy,day,energy,fainted,firstFainted");
+            for (Emotion e : Emotion.values()) out.write("," + e.name());
+            out.newLine();
+            for (Cell cell : cells) {
+                Trajectory t = cell.getTrajectory();
+                for (int day = 1; day <= t.getDays(); day++) {
+                    StringBuilder row = new StringBuilder();
+                    row.append(cell.personality.getKey()).append(',').append(cell.policy).append(',').append(day)
+                       .append(',').append(String.format("%.3f", t.getAverageEnergy(day)))
+                       .append(',').append(String.format("%.5f", t.getFaintedRatio(day)))
+                       .append(',').append(t.getFirstFaintCount(day));
+                    for (Emotion e : Emotion.values()) row.append(',').append(String.format("%.3f", t.getAverageEmotion(day, e)));
+                    out.write(row.toString());
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    /** 사용법: java simulation.BalanceAnalyzer [총 턴 수] [일 수] [스레드 수] [시드] [CSV 출력 파일] */
+    public static void main(String[] args) throws IOException {
+        long totalTurns = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        BalanceAnalyzer analyzer = new BalanceAnalyzer(days, threads, seed);
+        int combinations = PersonalityRegistry.all().size() * analyzer.policies.size();
+        long perCell = totalTurns / combinations / ((long) days * FarmManager.TURNS_PER_DAY);
+        int beansPerCell = (int) Math.max(1, Math.min(Integer.MAX_VALUE, perCell));
+
+        long start = System.nanoTime();
+        List<Cell> cells = analyzer.run(beansPerCell);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long turns = 0;
+        for (Cell cell : cells) turns += cell.result.getTurns();
+        System.out.printf("=== 밸런스 분석: 조합 %d개 (성격 × 정책), 조합마다 콩 %d마리 x %d일 ===%n", combinations, beansPerCell, days);
+        System.out.print(report(cells));
+        System.out.printf("%n총 %,d턴, %.1f초 (%,.0f 턴/초), 스레드 %d개, 시드 %d%n", turns, seconds, turns / seconds, threads, seed);
+
+        if (args.length > 4) {
+            Path file = Paths.get(args[4]);
+            writeCsv(cells, file);
+            System.out.println("일자별 추이: " + file);
+        }
+    }
+}
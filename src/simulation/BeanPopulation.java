@@ -0,0 +1,239 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import core.Action;
+import core.Beans;
+import core.Emotion;
+import core.Personality;
+import core.PersonalityRegistry;
+import game.FarmManager;
+
+/**
+ * 콩 무리의 상태를 열(column)별 기본형 배열에 나누어 담는 저장소 (structure-of-arrays).
+ * <p>콩 한 마리가 객체 하나(이름, 감정 객체, 핸들러…)를 갖는 대신, i 번째 콩의 에너지는 {@code energy[i]},
+ * 감정은 {@code emotions[감정 ordinal][i]} 처럼 같은 종류의 값끼리 연속 배열에 놓입니다.
+ * 수백만 마리를 진행해도 객체가 늘지 않고, 규칙을 열 단위로 적용할 때 메모리를 순서대로 훑습니다.</p>
+ * <p>콩마다의 난수 생성기도 객체 대신 {@link java.util.SplittableRandom}과 같은 알고리즘의
+ * (seed, gamma) 두 배열로 보관하므로, 같은 시드면 {@link SimulationEngine}의 객체 콩과 똑같이 추첨됩니다.</p>
+ * <p>대화형 경로에서는 {@link #view(int)}로 한 행을 {@link Beans} 객체로 꺼내 쓰고 {@link #store}로 되돌려 씁니다.</p>
+ */
+public class BeanPopulation {
+
+    private static final byte NO_ACTION = -1;
+    private static final Action[] ACTIONS = Action.values();
+
+    private int size;
+
+    // ==============================
+    // 열 (콩 번호로 색인)
+    // ==============================
+    String[] names;
+    byte[] personality;
+    int[] energy;
+    final int[][] emotions = new int[Emotion.COUNT][];   // [감정 ordinal][콩]
+    int[] actionsCount;
+    boolean[] recentlyHealed;
+    byte[] lastAction;                                    // Action ordinal, 없으면 -1
+
+    // 콩별 난수 생성기 상태 (SplittableRandom 과 같은 seed/gamma)
+    long[] rngSeed;
+    long[] rngGamma;
+
+    /**
+     * @param capacity 처음 확보할 콩 수 (부족하면 늘어남)
+     */
+    public BeanPopulation(int capacity) {
+        allocate(Math.max(capacity, 16));
+    }
+
+    private void allocate(int capacity) {
+        names = names == null ? new String[capacity] : Arrays.copyOf(names, capacity);
+        personality = personality == null ? new byte[capacity] : Arrays.copyOf(personality, capacity);
+        energy = energy == null ? new int[capacity] : Arrays.copyOf(energy, capacity);
+        for (int e = 0; e < Emotion.COUNT; e++) {
+            emotions[e] = emotions[e] == null ? new int[capacity] : Arrays.copyOf(emotions[e], capacity);
+        }
+        actionsCount = actionsCount == null ? new int[capacity] : Arrays.copyOf(actionsCount, capacity);
+        recentlyHealed = recentlyHealed == null ? new boolean[capacity] : Arrays.copyOf(recentlyHealed, capacity);
+        lastAction = lastAction == null ? new byte[capacity] : Arrays.copyOf(lastAction, capacity);
+        rngSeed = rngSeed == null ? new long[capacity] : Arrays.copyOf(rngSeed, capacity);
+        rngGamma = rngGamma == null ? new long[capacity] : Arrays.copyOf(rngGamma, capacity);
+    }
+
+    /**
+     * 새 콩을 초기 상태(에너지 100, 감정 50)로 추가합니다.
+     *
+     * @param type 성격 번호 ({@link PersonalityRegistry}에 등록된 번호, {@link FarmManager#createBean}과 같음)
+     * @param name 콩 이름
+     * @return 추가된 콩의 번호
+     * @throws IllegalArgumentException 등록되지 않았거나 성격 열(byte)에 담을 수 없는 번호
+     */
+    public int add(int type, String name) {
+        if (type > Byte.MAX_VALUE || PersonalityRegistry.byId(type) == null) {
+            throw new IllegalArgumentException("알 수 없는 성격 번호: " + type);
+        }
+        if (size == names.length) allocate(size * 2);
+
+        int i = size++;
+        names[i] = name;
+        personality[i] = (byte) type;
+        energy[i] = 100;
+        for (int e = 0; e < Emotion.COUNT; e++) emotions[e][i] = 50;
+        actionsCount[i] = 0;
+        recentlyHealed[i] = false;
+        lastAction[i] = NO_ACTION;
+        rngSeed[i] = 0;
+        rngGamma[i] = GOLDEN_GAMMA;
+        return i;
+    }
+
+    /**
+     * 등록된 성격을 번호 순으로 번갈아 가며 콩 무리를 만듭니다. ({@link SimulationEngine#mixedPopulation}과 같은 순서)
+     *
+     * @param count 만들 콩 수
+     * @return 콩 무리
+     */
+    public static BeanPopulation mixed(int count) {
+        List<Personality> all = PersonalityRegistry.all();
+        BeanPopulation population = new BeanPopulation(count);
+        for (int i = 0; i < count; i++) {
+            population.add(all.get(i % all.size()).getId(), "콩" + i);
+        }
+        return population;
+    }
+
+    public int size() { return size; }
+
+    public String getName(int i) { return names[i]; }
+    public int getPersonality(int i) { return personality[i]; }
+    public int getEnergy(int i) { return energy[i]; }
+    public int getEmotion(int i, Emotion emotion) { return emotions[emotion.ordinal()][i]; }
+    public int getActionsCount(int i) { return actionsCount[i]; }
+    public boolean isRecentlyHealed(int i) { return recentlyHealed[i]; }
+
+    // ==============================
+    // 대화형 경로 (Beans 객체로 꺼내기 / 되돌리기)
+    // ==============================
+
+    /**
+     * i 번째 콩을 같은 상태의 {@link Beans} 객체로 꺼냅니다.
+     * 꺼낸 객체에 행동을 시킨 뒤 {@link #store}로 되돌려 써야 변화가 반영됩니다.
+     * 꺼낸 콩은 이 행의 난수 상태를 이어서 사용합니다.
+     *
+     * @param i 콩 번호
+     * @return 이 행의 상태를 담은 콩
+     */
+    public Beans view(int i) {
+        Beans bean = FarmManager.createBean(personality[i], names[i]);
+        bean.restoreState(energy[i], actionsCount[i], recentlyHealed[i], lastAction[i] == NO_ACTION ? null : ACTIONS[lastAction[i]]);
+        for (int e = 0; e < Emotion.COUNT; e++) bean.setEmotion(Emotion.byOrdinal(e), emotions[e][i]);
+        bean.setRandom(rowRandom(i));
+        return bean;
+    }
+
+    /**
+     * {@link #view}로 꺼낸 콩의 상태를 i 번째 행에 되돌려 씁니다.
+     *
+     * @param i    콩 번호
+     * @param bean 꺼냈던 콩
+     */
+    public void store(int i, Beans bean) {
+        energy[i] = bean.getEnergy();
+        for (int e = 0; e < Emotion.COUNT; e++) emotions[e][i] = bean.getEmotion(Emotion.byOrdinal(e));
+        actionsCount[i] = bean.getActionsCount();
+        recentlyHealed[i] = bean.isRecentlyHealed();
+        Action last = bean.getLastAction();
+        lastAction[i] = (last == null) ? NO_ACTION : (byte) last.ordinal();
+    }
+
+    // ==============================
+    // 콩별 난수 (SplittableRandom 과 같은 알고리즘)
+    // ==============================
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * 마스터 시드에서 콩마다 난수 상태를 나눕니다.
+     * {@code new SplittableRandom(masterSeed)} 를 콩 순서대로 {@code split()} 한 것과 같습니다.
+     *
+     * @param masterSeed 마스터 시드
+     */
+    public void seed(long masterSeed) {
+        long masterState = masterSeed;
+        for (int i = 0; i < size; i++) {
+            masterState += GOLDEN_GAMMA;
+            rngSeed[i] = mix64(masterState);
+            masterState += GOLDEN_GAMMA;
+            rngGamma[i] = mixGamma(masterState);
+        }
+    }
+
+    long nextLong(int i) {
+        return mix64(rngSeed[i] += rngGamma[i]);
+    }
+
+    int nextInt(int i) {
+        return mix32(rngSeed[i] += rngGamma[i]);
+    }
+
+    /** 0 이상 bound 미만 (RandomGenerator.nextInt(bound) 와 같은 거절 방식) */
+    int nextInt(int i, int bound) {
+        int m = bound - 1;
+        int r = nextInt(i);
+        if ((bound & m) == 0) {
+            r &= m;
+        } else {
+            for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt(i) >>> 1)
+                ;
+        }
+        return r;
+    }
+
+    /** 0 이상 bound 미만 (RandomGenerator.nextLong(bound) 와 같은 거절 방식) */
+    long nextLong(int i, long bound) {
+        long m = bound - 1;
+        long r = nextLong(i);
+        if ((bound & m) == 0) {
+            r &= m;
+        } else {
+            for (long u = r >>> 1; u + m - (r = u % bound) < 0; u = nextLong(i) >>> 1)
+                ;
+        }
+        return r;
+    }
+
+    /** 0.0 이상 1.0 미만 (RandomGenerator.nextDouble() 와 같음) */
+    double nextDouble(int i) {
+        return (nextLong(i) >>> 11) * 0x1.0p-53;
+    }
+
+    /** i 번째 행의 난수 상태를 직접 진행하는 생성기 (대화형 경로용) */
+    private RandomGenerator rowRandom(int i) {
+        return new RandomGenerator() {
+            @Override public long nextLong() { return BeanPopulation.this.nextLong(i); }
+            @Override public int nextInt() { return BeanPopulation.this.nextInt(i); }
+        };
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
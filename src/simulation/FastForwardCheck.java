@@ -0,0 +1,185 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import core.Beans;
+import core.Emotion;
+import core.EmotionState;
+import core.Personality;
+import core.PersonalityRegistry;
+import game.DecayProfile;
+import game.FarmManager;
+
+/**
+ * 한 번에 여러 날을 넘기는 계산({@link FarmManager#fastForwardNights}, {@link NightlyDecay#fastForward})이
+ * 하루씩 감소를 적용한 결과와 같은지 확인하는 도구.
+ * <p>성격마다 모든 시작 감정 값(0~100)과 무작위 시작 상태에서 1 ~ N 번의 밤을 하루씩 진행한 콩과
+ * 처음부터 한 번에 넘긴 콩을 객체 경로와 열 경로 모두에서 비교합니다. 하루 끝 변화에는 난수가 없으므로 허용 오차는 0 입니다.</p>
+ */
+public final class FastForwardCheck {
+
+    private FastForwardCheck() {}
+
+    /** 비교 결과 */
+    public static final class Report {
+        private long comparisons;
+        private long mismatches;
+        private int maxDifference;
+        private String firstMismatch;
+
+        /** 비교한 (콩, 밤의 수) 쌍의 수 */
+        public long getComparisons() { return comparisons; }
+        /** 값이 하나라도 다른 쌍의 수 */
+        public long getMismatches() { return mismatches; }
+        /** 감정/에너지 값 차이의 최댓값 */
+        public int getMaxDifference() { return maxDifference; }
+        /** 처음 다른 곳의 설명 (모두 같으면 null) */
+        public String getFirstMismatch() { return firstMismatch; }
+
+        public boolean isExact() { return mismatches == 0; }
+
+        private void compare(String path, int type, int nights, int[] stepped, int[] forwarded) {
+            comparisons++;
+            int difference = 0;
+            for (int k = 0; k < stepped.length; k++) difference = Math.max(difference, Math.abs(stepped[k] - forwarded[k]));
+            if (difference == 0) return;
+            mismatches++;
+            maxDifference = Math.max(maxDifference, difference);
+            if (firstMismatch == null) {
+                firstMismatch = String.format("%s 경로, 성격 %d, 밤 %d번: 하루씩 %s / 한 번에 %s",
+                        path, type, nights, Arrays.toString(stepped), Arrays.toString(forwarded));
+            }
+        }
+    }
+
+    // ==============================
+    // 검증
+    // ==============================
+
+    /**
+     * @param maxNights 비교할 최대 밤의 수
+     * @param randomStarts 성격마다 추가로 비교할 무작위 시작 상태 수
+     * @param seed 무작위 시작 상태의 시드
+     * @return 비교 결과
+     */
+    public static Report check(int maxNights, int randomStarts, long seed) {
+        int[][] starts = starts(randomStarts, seed);
+        Report report = new Report();
+        for (Personality personality : PersonalityRegistry.all()) {
+            checkObjects(report, personality.getId(), starts, maxNights);
+        }
+        checkPopulation(report, starts, maxNights);
+        return report;
+    }
+
+    /** 시작 상태 목록: 모든 감정이 v 인 상태(v = 0~100) + 무작위 상태 */
+    private static int[][] starts(int randomStarts, long seed) {
+        int uniform = EmotionState.MAX - EmotionState.MIN + 1;
+        int[][] starts = new int[uniform + randomStarts][Emotion.COUNT];
+        for (int v = 0; v < uniform; v++) Arrays.fill(starts[v], EmotionState.MIN + v);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int s = uniform; s < starts.length; s++) {
+            for (int e = 0; e < Emotion.COUNT; e++) starts[s][e] = random.nextInt(EmotionState.MIN, EmotionState.MAX + 1);
+        }
+        return starts;
+    }
+
+    private static void checkObjects(Report report, int type, int[][] starts, int maxNights) {
+        for (int[] start : starts) {
+            Beans stepped = bean(type, start);
+            for (int nights = 1; nights <= maxNights; nights++) {
+                FarmManager.applyNightlyDecay(stepped);
+                Beans forwarded = bean(type, start);
+                FarmManager.fastForwardNights(forwarded, nights);
+                report.compare("객체", type, nights, state(stepped), state(forwarded));
+            }
+        }
+    }
+
+    private static void checkPopulation(Report report, int[][] starts, int maxNights) {
+        int[][] table = DecayProfile.table();
+        BeanPopulation stepped = population(starts);
+        int[] a = new int[Emotion.COUNT + 1];
+        int[] b = new int[Emotion.COUNT + 1];
+        for (int nights = 1; nights <= maxNights; nights++) {
+            NightlyDecay.apply(stepped, 0, stepped.size(), table);
+            BeanPopulation forwarded = population(starts);
+            NightlyDecay.fastForward(forwarded, 0, forwarded.size(), nights);
+            for (int i = 0; i < stepped.size(); i++) {
+                report.compare("열", stepped.personality[i], nights, state(stepped, i, a), state(forwarded, i, b));
+            }
+        }
+    }
+
+    private static Beans bean(int type, int[] start) {
+        Beans bean = FarmManager.createBean(type, "콩");
+        for (int e = 0; e < Emotion.COUNT; e++) {
+            Emotion emotion = Emotion.byOrdinal(e);
+            bean.changeEmotion(emotion, start[e] - bean.getEmotion(emotion));
+        }
+        return bean;
+    }
+
+    /** 시작 상태마다 등록된 성격을 한 마리씩 */
+    private static BeanPopulation population(int[][] starts) {
+        List<Personality> all = PersonalityRegistry.all();
+        BeanPopulation population = new BeanPopulation(starts.length * all.size());
+        for (int[] start : starts) {
+            for (Personality personality : all) {
+                int i = population.add(personality.getId(), "콩");
+                for (int e = 0; e < Emotion.COUNT; e++) population.emotions[e][i] = start[e];
+            }
+        }
+        return population;
+    }
+
+    /** [감정 ordinal 순 값..., 에너지] */
+    private static int[] state(Beans bean) {
+        int[] state = new int[Emotion.COUNT + 1];
+        for (int e = 0; e < Emotion.COUNT; e++) state[e] = bean.getEmotion(Emotion.byOrdinal(e));
+        state[Emotion.COUNT] = bean.getEnergy();
+        return state;
+    }
+
+    private static int[] state(BeanPopulation population, int i, int[] state) {
+        for (int e = 0; e < Emotion.COUNT; e++) state[e] = population.emotions[e][i];
+        state[Emotion.COUNT] = population.energy[i];
+        return state;
+    }
+
+    /** 사용법: java simulation.FastForwardCheck [최대 밤의 수] [무작위 시작 상태 수] [시드] [속도 비교용 밤의 수] */
+    public static void main(String[] args) {
+        int maxNights = args.length > 0 ? Integer.parseInt(args[0]) : 2 * DecayProfile.SATURATION_NIGHTS;
+        int randomStarts = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        long timedNights = args.length > 3 ? Long.parseLong(args[3]) : 1_000_000L;
+
+        long start = System.nanoTime();
+        Report report = check(maxNights, randomStarts, seed);
+        System.out.printf("비교 %,d건 (밤 1~%d번), 불일치 %,d건, 최대 차이 %d, %.1fms%n",
+                report.getComparisons(), maxNights, report.getMismatches(), report.getMaxDifference(),
+                (System.nanoTime() - start) / 1e6);
+        if (!report.isExact()) {
+            System.out.println("처음 불일치: " + report.getFirstMismatch());
+            System.exit(1);
+        }
+
+        // 같은 밤의 수를 하루씩 / 한 번에 넘기는 시간 (첫 번째 성격)
+        int type = PersonalityRegistry.all().get(0).getId();
+        Beans stepped = FarmManager.createBean(type, "콩");
+        start = System.nanoTime();
+        for (long n = 0; n < timedNights; n++) FarmManager.applyNightlyDecay(stepped);
+        long steppedNanos = System.nanoTime() - start;
+
+        Beans forwarded = FarmManager.createBean(type, "콩");
+        start = System.nanoTime();
+        FarmManager.fastForwardNights(forwarded, timedNights);
+        long forwardedNanos = System.nanoTime() - start;
+
+        System.out.printf("밤 %,d번: 하루씩 %.2fms, 한 번에 %.4fms, 결과 %s%n", timedNights,
+                steppedNanos / 1e6, forwardedNanos / 1e6,
+                Arrays.equals(state(stepped), state(forwarded)) ? "일치" : "불일치");
+    }
+}
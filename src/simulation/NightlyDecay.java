@@ -0,0 +1,131 @@
+package simulation;
+
+import java.util.List;
+
+import core.Personality;
+import core.PersonalityRegistry;
+import game.DecayProfile;
+
+/**
+ * {@link BeanPopulation} 전체에 하루 끝 감정 변화({@link DecayProfile})를 한꺼번에 적용합니다.
+ * <p>실행 시 {@code --add-modules jdk.incubator.vector} 가 주어지면 Vector API(SIMD) 구현을,
+ * 아니면 같은 결과를 내는 스칼라 구현을 사용합니다. {@code -Dgrowbean.vector=false} 로 스칼라 구현을 강제할 수 있습니다.</p>
+ */
+public final class NightlyDecay {
+
+    public static final String VECTOR_PROPERTY = "growbean.vector";
+
+    /** 감소 계산 구현 */
+    interface Kernel {
+
+        /**
+         * @param personality 성격 열
+         * @param emotions    감정 열 [감정 ordinal][콩]
+         * @param from        시작 콩 번호 (포함)
+         * @param to          끝 콩 번호 (제외)
+         * @param table       [성격 번호][감정 ordinal] 변화량
+         */
+        void apply(byte[] personality, int[][] emotions, int from, int to, int[][] table);
+    }
+
+    /** 등록된 성격 번호 (번호 순, 콩 무리에는 이 번호만 들어감 - {@link BeanPopulation#add}) */
+    static final int[] TYPES = registeredTypes();
+
+    /** 스칼라 구현 (Vector API 가 없을 때와 벡터 구현의 나머지 구간 처리용) */
+    static final Kernel SCALAR = NightlyDecay::applyScalar;
+
+    private static final Kernel KERNEL = select();
+
+    private NightlyDecay() {}
+
+    /**
+     * 콩 무리 전체에 하루 끝 감정 변화를 적용합니다.
+     *
+     * @param population 콩 무리
+     */
+    public static void apply(BeanPopulation population) {
+        apply(population, 0, population.size(), DecayProfile.table());
+    }
+
+    /**
+     * [from, to) 구간의 콩에게 하루 끝 감정 변화를 적용합니다.
+     *
+     * @param population 콩 무리
+     * @param from       시작 콩 번호 (포함)
+     * @param to         끝 콩 번호 (제외)
+     * @param table      {@link DecayProfile#table()} 로 얻은 변화량 표
+     */
+    public static void apply(BeanPopulation population, int from, int to, int[][] table) {
+        KERNEL.apply(population.personality, population.emotions, from, to, table);
+    }
+
+    /**
+     * [from, to) 구간의 콩을 아무 행동 없이 nights 번의 밤이 지난 상태로 한 번에 진행시킵니다.
+     * <p>{@link #apply(BeanPopulation, int, int, int[][])}를 nights 번 호출한 것과 결과가 정확히 같고,
+     * 누적 변화량 표({@link DecayProfile#table(long)})로 한 번만 훑으므로 비용은 밤의 수와 무관합니다.</p>
+     *
+     * @param population 콩 무리
+     * @param from       시작 콩 번호 (포함)
+     * @param to         끝 콩 번호 (제외)
+     * @param nights     지난 밤의 수 (0 이상)
+     */
+    public static void fastForward(BeanPopulation population, int from, int to, long nights) {
+        apply(population, from, to, DecayProfile.table(nights));
+    }
+
+    /** 사용 중인 구현 이름 (벤치마크/로그용) */
+    public static String kernelName() {
+        return KERNEL == SCALAR ? "scalar" : KERNEL.toString();
+    }
+
+    private static int[] registeredTypes() {
+        List<Personality> all = PersonalityRegistry.all();
+        int[] types = new int[all.size()];
+        for (int t = 0; t < types.length; t++) types[t] = all.get(t).getId();
+        return types;
+    }
+
+    private static Kernel select() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) return SCALAR;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return SCALAR;
+        try {
+            // 모듈이 없을 때 클래스가 로드되지 않도록 이름으로만 참조
+            return (Kernel) Class.forName("simulation.VectorDecayKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    /**
+     * 감정 e 의 변화량이 등록된 모든 성격에서 같은지 확인합니다. (같으면 콩마다 성격을 볼 필요 없음)
+     *
+     * @param table [성격 번호][감정 ordinal] 변화량
+     * @param e     감정 ordinal
+     */
+    static boolean sameForAll(int[][] table, int e) {
+        int value = table[TYPES[0]][e];
+        for (int type : TYPES) {
+            if (table[type][e] != value) return false;
+        }
+        return true;
+    }
+
+    private static void applyScalar(byte[] personality, int[][] emotions, int from, int to, int[][] table) {
+        for (int e = 0; e < emotions.length; e++) {
+            int[] column = emotions[e];
+
+            if (sameForAll(table, e)) {
+                int delta = table[TYPES[0]][e];
+                if (delta == 0) continue;
+                // 모든 성격이 같으면 분기 없는 루프 (JIT 자동 벡터화 대상)
+                for (int i = from; i < to; i++) {
+                    column[i] = Math.max(0, Math.min(100, column[i] + delta));
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    column[i] = Math.max(0, Math.min(100, column[i] + table[personality[i]][e]));
+                }
+            }
+        }
+    }
+}
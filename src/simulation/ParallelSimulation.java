@@ -0,0 +1,103 @@
+package simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import core.Beans;
+
+/**
+ * 콩 무리를 여러 코어에 나누어 실행하는 병렬 시뮬레이터.
+ * <p>콩마다 마스터 시드에서 분할한 전용 난수 생성기를 쓰고, 결과는 정수 합계로만 합치므로
+ * 같은 시드라면 스레드 수와 관계없이 항상 같은 결과를 돌려줍니다.</p>
+ */
+public class ParallelSimulation {
+
+    /** 한 작업 단위가 직접 처리할 최대 콩 수 (이보다 많으면 반으로 나눔) */
+    private static final int SHARD_SIZE = 256;
+
+    private final SimulationEngine engine;
+    private final int parallelism;
+    private final long masterSeed;
+
+    /**
+     * @param days        시뮬레이션할 일 수
+     * @param parallelism 사용할 스레드 수
+     * @param masterSeed  콩별 난수 생성기를 파생시킬 마스터 시드
+     */
+    public ParallelSimulation(int days, int parallelism, long masterSeed) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism 은 1 이상이어야 합니다: " + parallelism);
+        this.engine = new SimulationEngine(days);
+        this.parallelism = parallelism;
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * 콩 무리를 병렬로 끝까지 진행시킵니다.
+     *
+     * @param beans  시뮬레이션할 콩 목록 (각 콩은 한 스레드에서만 다뤄짐)
+     * @param policy 행동 선택 정책 (상태를 갖지 않아야 함)
+     * @return 집계 결과
+     */
+    public SimulationResult run(List<? extends Beans> beans, ActionPolicy policy) {
+        SimulationEngine.seed(beans, masterSeed);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new Shard(beans, policy, 0, beans.size()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 콩 목록의 [from, to) 구간을 처리하는 작업 */
+    private class Shard extends RecursiveTask<SimulationResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends Beans> beans;
+        private final ActionPolicy policy;
+        private final int from;
+        private final int to;
+
+        Shard(List<? extends Beans> beans, ActionPolicy policy, int from, int to) {
+            this.beans = beans;
+            this.policy = policy;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= SHARD_SIZE) {
+                SimulationResult result = new SimulationResult();
+                for (int i = from; i < to; i++) {
+                    engine.runBean(beans.get(i), policy, result);
+                }
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            Shard left = new Shard(beans, policy, from, mid);
+            left.fork();
+            SimulationResult right = new Shard(beans, policy, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /** 사용법: java simulation.ParallelSimulation [콩 수] [일 수] [스레드 수] [시드] */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        long start = System.nanoTime();
+        SimulationResult result = new ParallelSimulation(days, threads, seed)
+                .run(SimulationEngine.mixedPopulation(count), ActionPolicy.random());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.print(result.summary());
+        System.out.println("스레드 " + threads + "개, 시드 " + seed + ", 소요 시간: " + elapsedMs + "ms");
+    }
+}
@@ -0,0 +1,48 @@
+package simulation;
+
+import core.Action;
+import core.Emotion;
+import game.FarmManager;
+
+/**
+ * {@link BeanPopulation}의 콩에게 매 턴 시킬 행동을 정하는 정책 ({@link ActionPolicy}의 열 저장소용).
+ */
+@FunctionalInterface
+public interface PopulationPolicy {
+
+    /**
+     * @param population 콩 무리
+     * @param bean       콩 번호
+     * @param day        현재 일차 (1부터)
+     * @param turn       그날의 턴 번호 (0부터)
+     * @return 수행할 행동
+     */
+    Action next(BeanPopulation population, int bean, int day, int turn);
+
+    /** 항상 같은 행동만 반복 ({@link ActionPolicy#always}와 같음) */
+    static PopulationPolicy always(Action action) {
+        return (population, bean, day, turn) -> action;
+    }
+
+    /** 주어진 행동들을 턴 순서대로 돌아가며 수행 (날이 바뀌어도 이어서, {@link ActionPolicy#cycle}과 같음) */
+    static PopulationPolicy cycle(Action... actions) {
+        Action[] copy = actions.clone();
+        return (population, bean, day, turn) -> copy[(int) (((long) (day - 1) * FarmManager.TURNS_PER_DAY + turn) % copy.length)];
+    }
+
+    /** 콩의 난수로 매 턴 무작위 행동 ({@link ActionPolicy#random()}과 같은 추첨) */
+    static PopulationPolicy random() {
+        Action[] all = Action.values();
+        return (population, bean, day, turn) -> all[population.nextInt(bean, all.length)];
+    }
+
+    /** 상태를 보고 돌보는 정책 ({@link ActionPolicy#caring()}과 같은 규칙) */
+    static PopulationPolicy caring() {
+        return (population, bean, day, turn) -> {
+            if (population.energy[bean] < 30) return Action.HEAL;
+            if (population.emotions[Emotion.HUNGER.ordinal()][bean] >= 70) return Action.EAT;
+            if (population.emotions[Emotion.STRESS.ordinal()][bean] >= 70) return Action.REST;
+            return Action.PLAY;
+        };
+    }
+}
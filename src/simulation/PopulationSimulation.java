@@ -0,0 +1,318 @@
+package simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import core.Action;
+import core.DeltaDistribution;
+import core.DialogEntry;
+import core.DialogTemplate;
+import core.DialogTable;
+import core.Emotion;
+import core.Personality;
+import core.PersonalityRegistry;
+import core.RuleBook;
+import core.RuleTable;
+import exceptions.BeanException;
+import exceptions.EventType;
+import exceptions.ExceptionHandler;
+import game.DecayProfile;
+import game.FarmManager;
+import utils.AliasTable;
+
+/**
+ * {@link BeanPopulation}(열 저장소)을 진행시키는 시뮬레이터.
+ * <p>{@link SimulationEngine}과 같은 규칙을 따르지만, 한 턴을 다음 두 단계로 나눕니다.</p>
+ * <ol>
+ *   <li>콩마다: 행동 선택, 대사 행/성공/감정 변화 추첨, 결과 적용 (콩별 난수가 필요한 부분)</li>
+ *   <li>행동한 콩마다: 상태를 조건 변수 배열로 옮겨 특수 상태 규칙({@link RuleTable})을 실행하고 되돌려 씀</li>
+ * </ol>
+ * <p>하루가 끝나면 감정 감소를 열 전체에 한꺼번에 적용합니다({@link NightlyDecay}).
+ * 콩끼리는 서로 영향을 주지 않고 규칙 순서는 콩마다 그대로 지켜지므로,
+ * 같은 시드라면 {@link SimulationEngine}으로 객체 콩을 진행한 결과와 완전히 같습니다.</p>
+ */
+public class PopulationSimulation {
+
+    /** 한 작업 단위가 처리할 최대 콩 수 (임시 배열이 캐시에 들어가는 크기) */
+    private static final int SHARD_SIZE = 4096;
+
+    private final int days;
+    private final int parallelism;
+    private final boolean trackDays;
+
+    /**
+     * @param days        시뮬레이션할 일 수
+     * @param parallelism 사용할 스레드 수 (1이면 호출한 스레드에서 실행)
+     */
+    public PopulationSimulation(int days, int parallelism) {
+        this(days, parallelism, false);
+    }
+
+    /**
+     * @param days        시뮬레이션할 일 수
+     * @param parallelism 사용할 스레드 수 (1이면 호출한 스레드에서 실행)
+     * @param trackDays   true 면 일자별 추이({@link SimulationResult#getTrajectory()})도 모음
+     */
+    public PopulationSimulation(int days, int parallelism, boolean trackDays) {
+        if (days < 0) throw new IllegalArgumentException("days 는 0 이상이어야 합니다: " + days);
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism 은 1 이상이어야 합니다: " + parallelism);
+        this.days = days;
+        this.parallelism = parallelism;
+        this.trackDays = trackDays;
+    }
+
+    /**
+     * 콩 무리를 정책에 따라 끝까지 진행시킵니다. 난수 시드는 미리 {@link BeanPopulation#seed}로 지정합니다.
+     *
+     * @param population 콩 무리
+     * @param policy     행동 선택 정책 (상태를 갖지 않아야 함)
+     * @return 집계 결과
+     */
+    public SimulationResult run(BeanPopulation population, PopulationPolicy policy) {
+        // 성격 번호로 색인 (콩 무리에는 등록된 번호만 들어감)
+        DialogTable[] tables = new DialogTable[PersonalityRegistry.maxId() + 1];
+        RuleTable[] rules = new RuleTable[PersonalityRegistry.maxId() + 1];
+        for (Personality personality : PersonalityRegistry.all()) {
+            tables[personality.getId()] = personality.dialog().table();
+            rules[personality.getId()] = RuleBook.get(personality.getKey());
+        }
+        int[][] decay = DecayProfile.table();
+
+        Shard root = new Shard(population, policy, tables, rules, decay, 0, population.size());
+        if (parallelism == 1) return root.compute();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(root);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** 콩 무리의 [from, to) 구간을 처리하는 작업 */
+    private class Shard extends RecursiveTask<SimulationResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BeanPopulation population;
+        private final PopulationPolicy policy;
+        private final DialogTable[] tables;
+        private final RuleTable[] rules;
+        private final int[][] decay;
+        private final int from;
+        private final int to;
+
+        Shard(BeanPopulation population, PopulationPolicy policy, DialogTable[] tables, RuleTable[] rules, int[][] decay, int from, int to) {
+            this.population = population;
+            this.policy = policy;
+            this.tables = tables;
+            this.rules = rules;
+            this.decay = decay;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= SHARD_SIZE) {
+                SimulationResult result = new SimulationResult(trackDays ? new Trajectory(days) : null);
+                new Range(population, tables, rules, decay, from, to, result).run(policy);
+                return result;
+            }
+
+            int mid = (from + to) >>> 1;
+            Shard left = new Shard(population, policy, tables, rules, decay, from, mid);
+            left.fork();
+            SimulationResult right = new Shard(population, policy, tables, rules, decay, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /** 한 구간을 모든 일수만큼 진행 (구간별 임시 배열 보유, 한 스레드 전용) */
+    private final class Range implements RuleTable.Listener {
+
+        private final BeanPopulation pop;
+        private final DialogTable[] tables;
+        private final RuleTable[] rules;
+        private final int[][] decay;
+        private final int from;
+        private final int to;
+        private final SimulationResult result;
+        private final Trajectory trajectory;
+        private final int[] faintDay;           // 일자별 추이용: 구간 콩별 처음 기절한 일차
+
+        private final long[] events = new long[EventType.values().length];
+        private final int[] deltas = new int[Emotion.COUNT];
+
+        // 이번 턴에 규칙을 적용할 콩 번호 목록
+        private final int[] acted;
+        private int actedCount;
+
+        // 규칙 평가용 조건 변수 (콩 한 마리의 상태를 잠시 옮겨 담음)
+        private final int[] vars = new int[RuleTable.VAR_COUNT];
+
+        Range(BeanPopulation pop, DialogTable[] tables, RuleTable[] rules, int[][] decay, int from, int to, SimulationResult result) {
+            this.pop = pop;
+            this.tables = tables;
+            this.rules = rules;
+            this.decay = decay;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+            this.trajectory = result.getTrajectory();
+
+            int n = to - from;
+            acted = new int[n];
+            faintDay = (trajectory == null) ? null : new int[n];
+        }
+
+        void run(PopulationPolicy policy) {
+            for (int day = 1; day <= days; day++) {
+                for (int turn = 0; turn < FarmManager.TURNS_PER_DAY; turn++) {
+                    actedCount = 0;
+                    for (int i = from; i < to; i++) {
+                        playTurn(i, policy.next(pop, i, day, turn));
+                    }
+                    applyRules();
+                }
+                NightlyDecay.apply(pop, from, to, decay);
+                if (trajectory != null) trajectory.recordDay(pop, day, from, to, faintDay);
+            }
+            if (trajectory != null) trajectory.recordFinal(faintDay);
+
+            for (EventType type : EventType.values()) {
+                if (events[type.ordinal()] > 0) result.recordEvents(type, events[type.ordinal()]);
+            }
+            result.recordFinalStates(pop, from, to);
+        }
+
+        // ==============================
+        // 1단계: 콩별 추첨과 결과 적용 (Beans.act + applyActionResult)
+        // ==============================
+
+        private void playTurn(int i, Action action) {
+            DialogEntry[] entries = tables[pop.personality[i]].entries(action);
+            if (entries.length == 0) {
+                ExceptionHandler.handle(BeanException.beanAction("CSV에서 [" + action.getKey() + "] 항목을 찾을 수 없습니다."));
+                return;
+            }
+
+            // DialogLoader 와 같은 순서로 추첨: 행(별칭 표) → 성공 여부 → 변화량 조합 번호
+            AliasTable picker = tables[pop.personality[i]].picker(action);
+            int column = pop.nextInt(i, entries.length);
+            DialogEntry pick = entries[picker.isUniform() ? column : picker.resolve(column, pop.nextDouble(i))];
+            boolean success = pop.nextDouble(i) < pick.getSuccessRate();
+            DeltaDistribution distribution = pick.getDeltas(success);
+            long combinations = distribution.combinations();
+            long number = 0;
+            if (combinations > Integer.MAX_VALUE) number = pop.nextLong(i, combinations);
+            else if (combinations > 1) number = pop.nextInt(i, (int) combinations);
+            distribution.decode(number, deltas);
+
+            boolean heal = action == Action.HEAL;
+            result.recordTurn(pop.energy[i] > 0 || heal, success);
+
+            // 기절 상태에서는 치료 외의 행동이 무시됨
+            if (pop.energy[i] == 0 && !heal) return;
+
+            pop.actionsCount[i]++;
+            pop.lastAction[i] = (byte) action.ordinal();
+            for (int e = 0; e < Emotion.COUNT; e++) {
+                if (deltas[e] != 0) change(e, i, deltas[e]);
+            }
+
+            if (heal) {
+                changeEnergy(i, success ? 50 : 30);
+                pop.recentlyHealed[i] = true;
+            } else {
+                pop.recentlyHealed[i] = false;
+            }
+            acted[actedCount++] = i;
+        }
+
+        // ==============================
+        // 2단계: 특수 상태 규칙 ({@link RuleTable}, Beans.checkSpecialConditions)
+        // ==============================
+
+        private void applyRules() {
+            for (int k = 0; k < actedCount; k++) {
+                int i = acted[k];
+                load(i);
+                rules[pop.personality[i]].execute(vars, this);
+                store(i);
+            }
+        }
+
+        /** 조건 변수 채우기 (RuleTable 의 변수 배치) */
+        private void load(int i) {
+            int sum = 0;
+            for (int e = 0; e < Emotion.COUNT; e++) {
+                int value = pop.emotions[e][i];
+                vars[e] = value;
+                sum += value;
+            }
+            vars[RuleTable.VAR_ENERGY] = pop.energy[i];
+            vars[RuleTable.VAR_SUM] = sum;
+            vars[RuleTable.VAR_ACTIONS] = pop.actionsCount[i];
+            vars[RuleTable.VAR_HEALED] = pop.recentlyHealed[i] ? 1 : 0;
+            vars[RuleTable.VAR_LAST] = pop.lastAction[i];
+        }
+
+        private void store(int i) {
+            for (int e = 0; e < Emotion.COUNT; e++) pop.emotions[e][i] = vars[e];
+            pop.energy[i] = vars[RuleTable.VAR_ENERGY];
+        }
+
+        @Override
+        public void message(DialogTemplate message) {
+            // 헤드리스 실행에서는 대사를 만들지 않음
+        }
+
+        @Override
+        public void event(EventType type) {
+            events[type.ordinal()]++;
+        }
+
+        // ==============================
+        // 도우미
+        // ==============================
+
+        /** 감정 변경 (0~100 범위 제한, Beans.changeEmotion 과 같음) */
+        private void change(int emotion, int i, int delta) {
+            int[] column = pop.emotions[emotion];
+            column[i] = Math.max(0, Math.min(100, column[i] + delta));
+        }
+
+        /** 에너지 변경 (Beans.changeEnergy 와 같음) */
+        private void changeEnergy(int i, int delta) {
+            int after = pop.energy[i] + delta;
+            if (after > 100) {
+                pop.energy[i] = 100;
+            } else if (after < 0) {
+                pop.energy[i] = 0;
+                events[EventType.ENERGY_DEPLETED.ordinal()]++;
+            } else {
+                pop.energy[i] = after;
+            }
+        }
+    }
+
+    /** 사용법: java simulation.PopulationSimulation [콩 수] [일 수] [스레드 수] [시드] */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        BeanPopulation population = BeanPopulation.mixed(count);
+        population.seed(seed);
+
+        long start = System.nanoTime();
+        SimulationResult result = new PopulationSimulation(days, threads).run(population, PopulationPolicy.random());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.print(result.summary());
+        System.out.println("스레드 " + threads + "개, 시드 " + seed + ", 감소 계산: " + NightlyDecay.kernelName()
+                + ", 소요 시간: " + elapsedMs + "ms");
+    }
+}
@@ -0,0 +1,117 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import core.Action;
+import core.ActionResult;
+import core.Beans;
+import core.Personality;
+import core.PersonalityRegistry;
+import game.FarmManager;
+
+/**
+ * 콘솔 입출력 없이 콩의 하루/턴을 반복 실행하는 헤드리스 시뮬레이터.
+ * <p>FarmManager 와 같은 규칙(하루 {@link FarmManager#TURNS_PER_DAY} 턴, 하루가 끝나면
+ * {@link FarmManager#applyNightlyDecay} 적용)으로 콩 무리를 끝까지 진행시키고 결과를 집계합니다.</p>
+ */
+public class SimulationEngine {
+
+    private final int days;
+
+    /**
+     * @param days 시뮬레이션할 일 수
+     */
+    public SimulationEngine(int days) {
+        if (days < 0) throw new IllegalArgumentException("days 는 0 이상이어야 합니다: " + days);
+        this.days = days;
+    }
+
+    /**
+     * 콩 무리를 정책에 따라 끝까지 진행시킵니다.
+     * 각 콩의 출력과 이벤트 핸들러는 집계용으로 교체됩니다.
+     *
+     * @param beans  시뮬레이션할 콩 목록
+     * @param policy 행동 선택 정책
+     * @return 집계 결과
+     */
+    public SimulationResult run(List<? extends Beans> beans, ActionPolicy policy) {
+        SimulationResult result = new SimulationResult();
+        for (Beans bean : beans) {
+            runBean(bean, policy, result);
+        }
+        return result;
+    }
+
+    /** 콩 한 마리를 모든 일수만큼 진행 */
+    void runBean(Beans bean, ActionPolicy policy, SimulationResult result) {
+        bean.setMessageSink(null);
+        bean.setEventHandler(result::recordEvent);
+
+        for (int day = 1; day <= days; day++) {
+            for (int turn = 0; turn < FarmManager.TURNS_PER_DAY; turn++) {
+                playTurn(bean, policy.next(bean, day, turn), result);
+            }
+            FarmManager.applyNightlyDecay(bean);
+        }
+        result.recordFinalState(bean);
+    }
+
+    /** 한 턴 실행 (Farmer.perform 과 같은 흐름) */
+    private void playTurn(Beans bean, Action action, SimulationResult result) {
+        ActionResult actionResult = bean.act(action);
+        if (actionResult == null) return;
+
+        // 기절 상태에서는 치료 외의 행동이 무시됨
+        boolean applied = bean.getEnergy() > 0 || action == Action.HEAL;
+        bean.applyActionResult(actionResult, action.getKey());
+        result.recordTurn(applied, actionResult.isSuccess());
+    }
+
+    // ==============================
+    // 실행 도우미
+    // ==============================
+
+    /**
+     * 마스터 시드에서 콩마다 독립된 난수 생성기를 나누어 지정합니다.
+     * 콩의 순서대로 분할하므로, 같은 시드와 같은 목록이면 실행 스레드 수와 무관하게 같은 결과가 나옵니다.
+     *
+     * @param beans      시드를 지정할 콩 목록
+     * @param masterSeed 마스터 시드
+     */
+    public static void seed(List<? extends Beans> beans, long masterSeed) {
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        for (Beans bean : beans) {
+            bean.setRandom(master.split());
+        }
+    }
+
+    /**
+     * 등록된 성격을 번호 순으로 번갈아 가며 콩 무리를 만듭니다.
+     *
+     * @param count 만들 콩 수
+     * @return 콩 목록
+     */
+    public static List<Beans> mixedPopulation(int count) {
+        List<Personality> all = PersonalityRegistry.all();
+        List<Beans> beans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            beans.add(FarmManager.createBean(all.get(i % all.size()).getId(), "콩" + i));
+        }
+        return beans;
+    }
+
+    /** 사용법: java simulation.SimulationEngine [콩 수] [일 수] */
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        long start = System.nanoTime();
+        SimulationResult result = new SimulationEngine(days).run(mixedPopulation(count), ActionPolicy.random());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.print(result.summary());
+        System.out.println("소요 시간: " + elapsedMs + "ms");
+    }
+}
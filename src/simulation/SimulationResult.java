@@ -0,0 +1,159 @@
+package simulation;
+
+import core.Beans;
+import core.Emotion;
+import exceptions.BeanEvents;
+import exceptions.EventType;
+
+/**
+ * 시뮬레이션 실행 결과의 집계 데이터.
+ * <p>모든 값은 정수 합계로만 누적하므로, 여러 결과를 합쳐도({@link #merge}) 순서와 무관하게 같은 값이 됩니다.
+ * 평균 등 실수 값은 출력할 때 계산합니다.</p>
+ */
+public class SimulationResult {
+
+    private long beans;
+    private long turns;
+    private long actions;
+    private long successes;
+    private long blockedTurns;
+    private long events;
+    private final long[] eventCounts = new long[EventType.values().length];
+
+    // 종료 시점 상태 합계
+    private long energySum;
+    private long faintedBeans;
+    private final long[] emotionSums = new long[Emotion.values().length];
+
+    // 일자별 추이 (요청한 경우에만)
+    private final Trajectory trajectory;
+
+    public SimulationResult() {
+        this(null);
+    }
+
+    /**
+     * @param trajectory 일자별 추이를 함께 모을 집계 (필요 없으면 null)
+     */
+    SimulationResult(Trajectory trajectory) {
+        this.trajectory = trajectory;
+    }
+
+    // ==============================
+    // 누적
+    // ==============================
+
+    /** 한 턴의 결과를 기록 */
+    void recordTurn(boolean applied, boolean success) {
+        turns++;
+        if (!applied) {
+            blockedTurns++;
+            return;
+        }
+        actions++;
+        if (success) successes++;
+    }
+
+    /** 이벤트 발생 1회 기록 */
+    void recordEvent(BeanEvents event) {
+        events++;
+        eventCounts[event.getType().ordinal()]++;
+    }
+
+    /** 시뮬레이션이 끝난 콩의 최종 상태를 기록 */
+    void recordFinalState(Beans bean) {
+        beans++;
+        energySum += bean.getEnergy();
+        if (bean.getEnergy() == 0) faintedBeans++;
+        for (Emotion e : Emotion.values()) {
+            emotionSums[e.ordinal()] += bean.getEmotion(e);
+        }
+    }
+
+    /** 같은 종류의 이벤트 여러 번을 한꺼번에 기록 (열 단위 규칙 적용용) */
+    void recordEvents(EventType type, long count) {
+        events += count;
+        eventCounts[type.ordinal()] += count;
+    }
+
+    /** 콩 무리 [from, to) 구간의 최종 상태를 기록 */
+    void recordFinalStates(BeanPopulation population, int from, int to) {
+        beans += to - from;
+        for (int i = from; i < to; i++) {
+            int energy = population.energy[i];
+            energySum += energy;
+            if (energy == 0) faintedBeans++;
+        }
+        for (int e = 0; e < emotionSums.length; e++) {
+            int[] column = population.emotions[e];
+            long sum = 0;
+            for (int i = from; i < to; i++) sum += column[i];
+            emotionSums[e] += sum;
+        }
+    }
+
+    /** 다른 결과를 현재 결과에 합산 */
+    public SimulationResult merge(SimulationResult other) {
+        beans += other.beans;
+        turns += other.turns;
+        actions += other.actions;
+        successes += other.successes;
+        blockedTurns += other.blockedTurns;
+        events += other.events;
+        energySum += other.energySum;
+        faintedBeans += other.faintedBeans;
+        for (int i = 0; i < emotionSums.length; i++) emotionSums[i] += other.emotionSums[i];
+        for (int i = 0; i < eventCounts.length; i++) eventCounts[i] += other.eventCounts[i];
+        if (trajectory != null && other.trajectory != null) trajectory.merge(other.trajectory);
+        return this;
+    }
+
+    // ==============================
+    // Getter
+    // ==============================
+    public long getBeans() { return beans; }
+    public long getTurns() { return turns; }
+    public long getActions() { return actions; }
+    public long getSuccesses() { return successes; }
+    public long getBlockedTurns() { return blockedTurns; }
+    public long getEvents() { return events; }
+    public long getFaintedBeans() { return faintedBeans; }
+
+    /** 일자별 추이 (요청하지 않았으면 null) */
+    public Trajectory getTrajectory() { return trajectory; }
+
+    /** 특정 종류의 이벤트 발생 횟수 */
+    public long getEventCount(EventType type) { return eventCounts[type.ordinal()]; }
+
+    /** 행동 성공률 */
+    public double getSuccessRate() {
+        return actions == 0 ? 0.0 : (double) successes / actions;
+    }
+
+    /** 종료 시점 평균 에너지 */
+    public double getAverageEnergy() {
+        return beans == 0 ? 0.0 : (double) energySum / beans;
+    }
+
+    /** 종료 시점 특정 감정의 평균 */
+    public double getAverageEmotion(Emotion emotion) {
+        return beans == 0 ? 0.0 : (double) emotionSums[emotion.ordinal()] / beans;
+    }
+
+    /** 사람이 읽기 좋은 요약 문자열 */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("콩 ").append(beans).append("마리, 턴 ").append(turns)
+          .append(" (행동 ").append(actions).append(", 기절로 무시 ").append(blockedTurns).append(")\n");
+        sb.append(String.format("성공률 %.3f, 이벤트 %d회, 기절한 콩 %d마리%n",
+                getSuccessRate(), events, faintedBeans));
+        for (EventType type : EventType.values()) {
+            sb.append(String.format("  %-16s %d%n", type, eventCounts[type.ordinal()]));
+        }
+        sb.append(String.format("평균 에너지 %.2f%n", getAverageEnergy()));
+        for (Emotion e : Emotion.values()) {
+            sb.append(String.format("%-10s : %.2f%n", e, getAverageEmotion(e)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package simulation;
+
+import core.Emotion;
+
+/**
+ * 시뮬레이션 동안의 일자별 상태 집계 (감정/에너지 평균 추이, 기절까지 걸린 일수 분포).
+ * <p>{@link SimulationResult}와 마찬가지로 정수 합계로만 누적하므로 구간별 결과를 순서와 무관하게 합칠 수 있어,
+ * 콩 무리를 나누어 차례로 돌리면서 결과만 이어 붙이는(스트리밍) 집계에 씁니다.</p>
+ */
+public final class Trajectory {
+
+    private final int days;
+    private long beans;
+
+    // 하루가 끝난 뒤(감정 감소 적용 후)의 합계, [일차 - 1]
+    private final long[][] emotionSums;
+    private final long[] energySums;
+    private final long[] fainted;
+
+    // 처음 기절 상태(에너지 0)로 하루를 마친 일차별 콩 수, [0] 은 끝까지 기절하지 않은 콩
+    private final long[] firstFaint;
+
+    /**
+     * @param days 시뮬레이션 일 수
+     */
+    public Trajectory(int days) {
+        this.days = days;
+        this.emotionSums = new long[days][Emotion.COUNT];
+        this.energySums = new long[days];
+        this.fainted = new long[days];
+        this.firstFaint = new long[days + 1];
+    }
+
+    // ==============================
+    // 누적 (PopulationSimulation 의 구간 스레드에서 호출)
+    // ==============================
+
+    /**
+     * 하루를 마친 구간 [from, to) 의 상태를 기록합니다.
+     *
+     * @param faintDay 구간 콩별 처음 기절한 일차 (0 이면 아직 없음, 여기서 갱신)
+     */
+    void recordDay(BeanPopulation pop, int day, int from, int to, int[] faintDay) {
+        long[] sums = emotionSums[day - 1];
+        for (int e = 0; e < Emotion.COUNT; e++) {
+            int[] column = pop.emotions[e];
+            long sum = 0;
+            for (int i = from; i < to; i++) sum += column[i];
+            sums[e] += sum;
+        }
+
+        long energy = 0;
+        long zero = 0;
+        for (int i = from; i < to; i++) {
+            int value = pop.energy[i];
+            energy += value;
+            if (value == 0) {
+                zero++;
+                if (faintDay[i - from] == 0) faintDay[i - from] = day;
+            }
+        }
+        energySums[day - 1] += energy;
+        fainted[day - 1] += zero;
+    }
+
+    /** 구간의 시뮬레이션이 끝났을 때 기절 일차 분포를 기록 */
+    void recordFinal(int[] faintDay) {
+        beans += faintDay.length;
+        for (int day : faintDay) firstFaint[day]++;
+    }
+
+    /** 다른 집계를 현재 집계에 합산 (일 수가 같아야 함) */
+    public Trajectory merge(Trajectory other) {
+        if (other.days != days) throw new IllegalArgumentException("일 수가 다른 집계는 합칠 수 없습니다: " + days + " / " + other.days);
+        beans += other.beans;
+        for (int d = 0; d < days; d++) {
+            for (int e = 0; e < Emotion.COUNT; e++) emotionSums[d][e] += other.emotionSums[d][e];
+            energySums[d] += other.energySums[d];
+            fainted[d] += other.fainted[d];
+        }
+        for (int d = 0; d <= days; d++) firstFaint[d] += other.firstFaint[d];
+        return this;
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    public int getDays() { return days; }
+    public long getBeans() { return beans; }
+
+    /** day 일차를 마친 뒤의 평균 감정 */
+    public double getAverageEmotion(int day, Emotion emotion) {
+        return beans == 0 ? 0.0 : (double) emotionSums[day - 1][emotion.ordinal()] / beans;
+    }
+
+    /** day 일차를 마친 뒤의 평균 에너지 */
+    public double getAverageEnergy(int day) {
+        return beans == 0 ? 0.0 : (double) energySums[day - 1] / beans;
+    }
+
+    /** day 일차를 기절 상태로 마친 콩의 비율 */
+    public double getFaintedRatio(int day) {
+        return beans == 0 ? 0.0 : (double) fainted[day - 1] / beans;
+    }
+
+    /** 한 번이라도 기절 상태로 하루를 마친 콩의 비율 */
+    public double getEverFaintedRatio() {
+        return beans == 0 ? 0.0 : 1.0 - (double) firstFaint[0] / beans;
+    }
+
+    /** 처음 기절 상태로 하루를 마친 일차가 day 인 콩 수 */
+    public long getFirstFaintCount(int day) { return firstFaint[day]; }
+
+    /**
+     * 기절까지 걸린 일수의 분위수 (기절하지 않은 콩은 무한대로 취급).
+     *
+     * @param q 0 초과 1 이하
+     * @return 일수, 그 분위까지 기절하지 않았으면 -1
+     */
+    public int daysToFaintQuantile(double q) {
+        long target = (long) Math.ceil(q * beans);
+        long seen = 0;
+        for (int d = 1; d <= days; d++) {
+            seen += firstFaint[d];
+            if (seen >= target && target > 0) return d;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,73 @@
+package simulation;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(SIMD)로 하루 끝 감정 변화를 계산하는 구현.
+ * <p>콩 여러 마리를 한 레인씩 맡아, 성격에 따라 고른 변화량을 더한 뒤 0~100 으로 잘라냅니다.
+ * 성격마다 변화량이 다른 감정은 등록된 성격별로 성격 열과 비교한 마스크로 그 레인의 값을 골라 넣습니다.
+ * {@link NightlyDecay}가 {@code jdk.incubator.vector} 모듈이 있을 때만 이름으로 로드합니다.</p>
+ */
+final class VectorDecayKernel implements NightlyDecay.Kernel {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /** 성격 열(byte)을 읽을 종류 (int 레인 수 이상의 레인, 최소 64비트) */
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, INTS.length() * Byte.SIZE)));
+
+    @Override
+    public void apply(byte[] personality, int[][] emotions, int from, int to, int[][] table) {
+        int[] types = NightlyDecay.TYPES;
+        int first = types[0];
+        int count = emotions.length;
+        boolean[] same = new boolean[count];
+        boolean mixed = false;
+        for (int e = 0; e < count; e++) {
+            same[e] = NightlyDecay.sameForAll(table, e);
+            mixed |= !same[e];
+        }
+
+        IntVector zero = IntVector.zero(INTS);
+        IntVector hundred = IntVector.broadcast(INTS, 100);
+
+        int i = from;
+        for (; i + BYTES.length() <= to; i += INTS.length()) {
+            IntVector kinds = null;
+            if (mixed) {
+                kinds = (IntVector) ByteVector.fromArray(BYTES, personality, i)
+                        .convertShape(VectorOperators.B2I, INTS, 0);
+            }
+
+            for (int e = 0; e < count; e++) {
+                IntVector delta;
+                if (same[e]) {
+                    if (table[first][e] == 0) continue;
+                    delta = IntVector.broadcast(INTS, table[first][e]);
+                } else {
+                    // 첫 성격의 값에서 시작해 성격마다 그 레인만 바꿔 끼움
+                    delta = IntVector.broadcast(INTS, table[first][e]);
+                    for (int t = 1; t < types.length; t++) {
+                        int value = table[types[t]][e];
+                        if (value != table[first][e]) delta = delta.blend(value, kinds.eq(types[t]));
+                    }
+                }
+
+                int[] column = emotions[e];
+                IntVector.fromArray(INTS, column, i).add(delta).max(zero).min(hundred).intoArray(column, i);
+            }
+        }
+
+        // 레인 수에 못 미치는 나머지
+        NightlyDecay.SCALAR.apply(personality, emotions, i, to, table);
+    }
+
+    @Override
+    public String toString() {
+        return "vector(" + INTS + ")";
+    }
+}
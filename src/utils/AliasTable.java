@@ -0,0 +1,90 @@
+package utils;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치가 있는 이산 분포에서 O(1)로 하나를 뽑는 Walker 별칭(alias) 표.
+ * <p>생성 시 각 칸을 "자기 자신 확률 + 나머지는 별칭 하나"로 채워 두므로(Vose 방식),
+ * 추첨은 칸 번호 하나와 동전 하나, 난수 두 번으로 끝납니다.
+ * 모든 가중치가 같으면 동전을 던지지 않고 칸 번호 하나만 뽑습니다(균등 추첨과 같은 난수 순서).</p>
+ */
+public final class AliasTable {
+
+    private final double[] prob;    // 칸 i 에서 i 자신이 뽑힐 확률
+    private final int[] alias;      // 칸 i 에서 자신이 아니면 뽑힐 번호
+    private final boolean uniform;
+
+    /**
+     * 가중치로 표를 만듭니다.
+     *
+     * @param weights 항목별 가중치 (모두 0 보다 크고 유한해야 함, 1개 이상)
+     * @throws IllegalArgumentException 가중치가 비었거나 잘못된 경우
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) throw new IllegalArgumentException("가중치가 없습니다.");
+
+        double sum = 0;
+        boolean same = true;
+        for (double w : weights) {
+            if (!(w > 0) || Double.isInfinite(w)) throw new IllegalArgumentException("가중치는 0보다 큰 유한한 값이어야 합니다: " + w);
+            sum += w;
+            same &= (w == weights[0]);
+        }
+        this.uniform = same;
+        this.prob = new double[n];
+        this.alias = new int[n];
+        if (same) return;
+
+        // 평균이 1 이 되도록 맞춘 뒤, 1 보다 작은 칸을 1 보다 큰 항목으로 채움
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) small[smallCount++] = l;
+            else large[largeCount++] = l;
+        }
+        // 부동소수 오차로 남은 칸은 자기 자신 확률 1
+        while (largeCount > 0) prob[large[--largeCount]] = 1.0;
+        while (smallCount > 0) prob[small[--smallCount]] = 1.0;
+    }
+
+    /** 항목 수 */
+    public int size() { return prob.length; }
+
+    /** 모든 가중치가 같아 칸 번호만으로 결정되는지 */
+    public boolean isUniform() { return uniform; }
+
+    /**
+     * 뽑은 칸과 동전으로 항목을 결정합니다. (난수 생성기를 직접 넘길 수 없는 경로용)
+     *
+     * @param column 0 이상 {@link #size()} 미만의 균등한 칸 번호
+     * @param coin   0.0 이상 1.0 미만의 균등한 값 ({@link #isUniform()}이면 쓰지 않음)
+     * @return 뽑힌 항목 번호
+     */
+    public int resolve(int column, double coin) {
+        return (uniform || coin < prob[column]) ? column : alias[column];
+    }
+
+    /**
+     * 가중치에 비례해 항목 하나를 뽑습니다.
+     *
+     * @param rng 난수 생성기
+     * @return 뽑힌 항목 번호
+     */
+    public int sample(RandomGenerator rng) {
+        int column = rng.nextInt(prob.length);
+        return uniform ? column : resolve(column, rng.nextDouble());
+    }
+}
@@ -0,0 +1,187 @@
+package utils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * UTF-8 CSV 바이트를 직접 훑어 필드 조각(slice)을 방문자에게 넘기는 스트리밍 CSV 리더.
+ * <p>줄 단위 문자열, 필드별 StringBuilder, 정규식 없이 원본 byte[] 위에서 바로 분리하므로
+ * 큰 대사 파일도 파일 크기에 비례하는 시간에 읽습니다. 필드를 문자열로 만들지 여부는 방문자가 정합니다.</p>
+ *
+ * <ul>
+ *   <li>파일 앞의 UTF-8 BOM(EF BB BF)은 건너뜀</li>
+ *   <li>줄 끝은 \n, \r\n, \r 모두 허용</li>
+ *   <li>따옴표 구간 안의 콤마/줄바꿈은 필드 내용으로 취급하고, 따옴표 안의 "" 는 " 한 글자로 해석</li>
+ *   <li>필드 앞뒤 공백은 제거</li>
+ *   <li>모든 필드가 비어 있는 행(빈 줄, ",,,,,," 구분 행)은 방문자에게 전달하지 않음</li>
+ * </ul>
+ */
+public final class CsvReader {
+
+    /** CSV 필드 방문자 */
+    public interface Visitor {
+
+        /**
+         * 필드 하나. {@code data[offset, offset + length)} 구간이 필드 내용(UTF-8)이며,
+         * 배열은 이후 행에서 재사용될 수 있으므로 필요하면 호출 안에서 복사해야 합니다.
+         *
+         * @param column 0부터 시작하는 열 번호
+         * @param data   원본 바이트 배열
+         * @param offset 필드 시작 위치
+         * @param length 필드 길이 (바이트)
+         */
+        void field(int column, byte[] data, int offset, int length);
+
+        /**
+         * 한 행의 모든 필드 전달이 끝남.
+         *
+         * @param columns 이 행의 필드 수
+         */
+        void endRow(int columns);
+    }
+
+    private static final int INITIAL_COLUMNS = 8;
+
+    private CsvReader() {}
+
+    /**
+     * 클래스패스 리소스를 읽어 방문자에게 전달합니다.
+     *
+     * @param fileName   리소스 경로 기준 CSV 파일 이름
+     * @param skipHeader 첫 행이 헤더라면 true
+     * @param visitor    필드 방문자
+     * @throws FileNotFoundException 리소스가 없을 때
+     * @throws IOException           읽기 실패 시
+     */
+    public static void readResource(String fileName, boolean skipHeader, Visitor visitor) throws IOException {
+        byte[] data;
+        try (InputStream in = CsvReader.class.getResourceAsStream("/" + fileName)) {
+            if (in == null) throw new FileNotFoundException("리소스 파일을 찾을 수 없습니다: " + fileName);
+            data = in.readAllBytes();
+        }
+        parse(data, data.length, skipHeader, visitor);
+    }
+
+    /**
+     * 파일 시스템의 CSV 파일을 읽어 방문자에게 전달합니다.
+     *
+     * @param file       CSV 파일 경로
+     * @param skipHeader 첫 행이 헤더라면 true
+     * @param visitor    필드 방문자
+     * @throws IOException 읽기 실패 시
+     */
+    public static void readFile(Path file, boolean skipHeader, Visitor visitor) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        parse(data, data.length, skipHeader, visitor);
+    }
+
+    /**
+     * 바이트 배열의 CSV 를 분리하여 방문자에게 전달합니다.
+     * 따옴표가 있는 필드는 배열 안에서 제자리 정리되므로 {@code data} 의 내용이 바뀔 수 있습니다.
+     *
+     * @param data       UTF-8 CSV 바이트 (수정될 수 있음)
+     * @param length     유효한 바이트 수
+     * @param skipHeader 첫 행이 헤더라면 true
+     * @param visitor    필드 방문자
+     */
+    public static void parse(byte[] data, int length, boolean skipHeader, Visitor visitor) {
+        int[] starts = new int[INITIAL_COLUMNS];
+        int[] lengths = new int[INITIAL_COLUMNS];
+
+        int pos = hasBom(data, length) ? 3 : 0;
+        boolean header = skipHeader;
+
+        while (pos < length) {
+            int columns = 0;
+            boolean blank = true;
+
+            while (true) {
+                // ===== 필드 하나 (따옴표를 걷어내며 같은 배열 앞쪽으로 압축) =====
+                int write = pos;
+                int fieldStart = pos;
+                boolean inQuote = false;
+
+                while (pos < length) {
+                    byte b = data[pos];
+                    if (inQuote) {
+                        if (b == '"') {
+                            if (pos + 1 < length && data[pos + 1] == '"') {
+                                data[write++] = '"';
+                                pos += 2;
+                            } else {
+                                inQuote = false;
+                                pos++;
+                            }
+                            continue;
+                        }
+                    } else if (b == '"') {
+                        inQuote = true;
+                        pos++;
+                        continue;
+                    } else if (b == ',' || b == '\n' || b == '\r') {
+                        break;
+                    }
+                    data[write++] = b;
+                    pos++;
+                }
+
+                // ===== 앞뒤 공백 제거 (UTF-8 다중 바이트 문자는 0x80 이상이라 영향 없음) =====
+                int s = fieldStart;
+                int e = write;
+                while (s < e && (data[s] & 0xFF) <= ' ') s++;
+                while (e > s && (data[e - 1] & 0xFF) <= ' ') e--;
+
+                if (columns == starts.length) {
+                    starts = Arrays.copyOf(starts, columns * 2);
+                    lengths = Arrays.copyOf(lengths, columns * 2);
+                }
+                starts[columns] = s;
+                lengths[columns] = e - s;
+                columns++;
+                if (e > s) blank = false;
+
+                if (pos < length && data[pos] == ',') {
+                    pos++;
+                    continue;
+                }
+
+                // ===== 행 끝 =====
+                if (pos < length && data[pos] == '\r') pos++;
+                if (pos < length && data[pos] == '\n') pos++;
+                break;
+            }
+
+            if (header) {
+                header = false;
+                continue;
+            }
+            if (blank) continue;
+
+            for (int i = 0; i < columns; i++) {
+                visitor.field(i, data, starts[i], lengths[i]);
+            }
+            visitor.endRow(columns);
+        }
+    }
+
+    /**
+     * 필드 조각을 문자열로 만듭니다.
+     *
+     * @param data   원본 바이트 배열
+     * @param offset 필드 시작 위치
+     * @param length 필드 길이
+     * @return UTF-8 로 해석한 문자열
+     */
+    public static String text(byte[] data, int offset, int length) {
+        return length == 0 ? "" : new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean hasBom(byte[] data, int length) {
+        return length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF;
+    }
+}
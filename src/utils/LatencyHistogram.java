@@ -0,0 +1,136 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간(나노초)을 로그-선형 구간에 세는 HdrHistogram 방식의 히스토그램.
+ * <p>값의 크기를 2의 거듭제곱 구간으로 나누고, 각 구간을 다시 같은 간격의 하위 구간으로 나눕니다.
+ * 하위 구간 수를 2^precisionBits 로 두면 모든 값이 상대 오차 2^-(precisionBits-1) 이내로 기록되며,
+ * 기록은 배열 인덱스 계산과 증가 한 번이라 할당이 없습니다.</p>
+ * <p>스레드 안전하지 않습니다. 스레드마다 하나씩 두고 끝난 뒤 {@link #add}로 합칩니다.</p>
+ */
+public final class LatencyHistogram {
+
+    /** 기본 정밀도 (하위 구간 2048개, 상대 오차 약 0.1%) */
+    public static final int DEFAULT_PRECISION_BITS = 11;
+
+    /** 기본 최대 기록 값 (1시간, 나노초) */
+    public static final long DEFAULT_HIGHEST = 3_600_000_000_000L;
+
+    private final int precisionBits;
+    private final int halfCount;
+    private final long highest;
+    private final long[] counts;
+
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS, DEFAULT_HIGHEST);
+    }
+
+    /**
+     * @param precisionBits 하위 구간 수의 비트 수 (2~20)
+     * @param highest       구분해서 기록할 최대 값 (이보다 크면 마지막 구간에 셈, 최대값은 정확히 기록)
+     */
+    public LatencyHistogram(int precisionBits, long highest) {
+        if (precisionBits < 2 || precisionBits > 20) {
+            throw new IllegalArgumentException("precisionBits 는 2~20 이어야 합니다: " + precisionBits);
+        }
+        this.precisionBits = precisionBits;
+        this.halfCount = 1 << (precisionBits - 1);
+        this.highest = Math.max(highest, 1L << precisionBits);
+        this.counts = new long[indexOf(this.highest) + 1];
+    }
+
+    // ==============================
+    // 기록
+    // ==============================
+
+    /**
+     * 값 하나를 기록합니다.
+     *
+     * @param value 지연 시간 (음수는 0으로 기록)
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[indexOf(Math.min(value, highest))]++;
+        total++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /** 다른 히스토그램의 기록을 모두 더함 (정밀도와 최대값이 같아야 함) */
+    public void add(LatencyHistogram other) {
+        if (other.precisionBits != precisionBits || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("정밀도나 범위가 다른 히스토그램은 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        total += other.total;
+        sum += other.sum;
+        if (other.total > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    /** 모든 기록을 지움 */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    // ==============================
+    // 조회
+    // ==============================
+
+    /** 기록된 값 수 */
+    public long count() { return total; }
+
+    public long min() { return total == 0 ? 0 : min; }
+    public long max() { return max; }
+    public double mean() { return total == 0 ? 0 : sum / total; }
+
+    /**
+     * 백분위 값을 반환합니다. (그 구간에서 가장 큰 값, 최대값을 넘지 않음)
+     *
+     * @param percentile 0~100
+     * @return 기록된 값의 percentile 위치 값 (기록이 없으면 0)
+     */
+    public long percentile(double percentile) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(highestEquivalent(i), max);
+        }
+        return max;
+    }
+
+    // ==============================
+    // 구간 계산
+    // ==============================
+
+    /** 값이 들어갈 구간 번호 */
+    private int indexOf(long value) {
+        // 구간 0 은 [0, 2^precisionBits) 를 1 간격으로, 구간 b 는 [2^(precisionBits-1+b), 2^(precisionBits+b)) 를 2^b 간격으로
+        int bucket = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - precisionBits);
+        int sub = (int) (value >>> bucket);
+        return bucket * halfCount + sub;
+    }
+
+    /** 구간 번호에 들어가는 가장 큰 값 */
+    private long highestEquivalent(int index) {
+        if (index < 2 * halfCount) return index;
+        int bucket = index / halfCount - 1;
+        long sub = index - (long) bucket * halfCount;
+        return ((sub + 1) << bucket) - 1;
+    }
+}
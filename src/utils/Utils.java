@@ -3,9 +3,11 @@ package utils;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 import core.Emotion;
 import exceptions.*;
+import metrics.CsvLoadEvent;
 
 /**
  * 여러 유틸 기능을 한데 모은 통합 유틸 클래스.
@@ -69,6 +71,7 @@ public class Utils {
 
     /**
      * CSV 전체를 읽어 각 행을 String 배열로 반환합니다.
+     * {@link CsvReader}로 파일 바이트를 한 번에 분리하며, 모든 칸이 빈 행(",,,,,,")은 제외합니다.
      *
      * @param fileName   CSV 파일 이름
      * @param skipHeader 첫 줄이 헤더라면 true
@@ -76,39 +79,65 @@ public class Utils {
      */
     public static List<String[]> loadCsv(String fileName, boolean skipHeader) {
         List<String[]> list = new ArrayList<>();
-        try (BufferedReader br = openCsv(fileName)) {
-            if (br == null) return list;
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        try {
+            CsvReader.readResource(fileName, skipHeader, new CsvReader.Visitor() {
+                private String[] row = new String[8];
 
-            if (skipHeader) br.readLine();
+                @Override
+                public void field(int column, byte[] data, int offset, int length) {
+                    if (column == row.length) row = Arrays.copyOf(row, column * 2);
+                    row[column] = CsvReader.text(data, offset, length);
+                }
 
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.isBlank()) list.add(parseLine(line));
-            }
+                @Override
+                public void endRow(int columns) {
+                    list.add(Arrays.copyOf(row, columns));
+                }
+            });
         } catch (IOException e) {
             ExceptionHandler.handle(BeanException.csvLoad(fileName, e));
         } catch (Exception e) {
             ExceptionHandler.handle(BeanException.beanAction("CSV 파싱 중 오류 발생: " + fileName));
         }
+        event.finish(fileName, list.size());
         return list;
     }
 
     /**
-     * 문자열에서 공백과 개행 문자를 제거합니다.
+     * 문자열에서 앞뒤 공백과 개행 문자를 제거합니다.
      *
      * @param s 정리할 문자열
      * @return 공백과 개행이 제거된 문자열
      */
     private static String clean(CharSequence s) {
-        return s.toString().trim().replaceAll("[\\r\\n]", "");
+        String trimmed = s.toString().trim();
+        if (trimmed.indexOf('\r') < 0 && trimmed.indexOf('\n') < 0) return trimmed;
+
+        StringBuilder sb = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c != '\r' && c != '\n') sb.append(c);
+        }
+        return sb.toString();
     }
 
     // ==============================
     // 랜덤 & 범위 유틸
     // ==============================
 
+    /** 별도 난수 생성기를 지정하지 않은 곳에서 공유하는 기본 생성기 */
     private static final Random random = new Random();
 
+    /**
+     * 공유 기본 난수 생성기를 반환합니다.
+     * 여러 스레드가 동시에 쓰면 경합이 생기므로, 병렬 시뮬레이션에서는 콩마다 별도 생성기를 지정합니다.
+     */
+    public static RandomGenerator defaultRandom() {
+        return random;
+    }
+
     /**
      * 주어진 확률(rate)에 따라 true 또는 false를 반환합니다.
      *
@@ -116,7 +145,18 @@ public class Utils {
      * @return 랜덤 결과 (true: 성공, false: 실패)
      */
     public static boolean chance(double rate) {
-        return random.nextDouble() < rate;
+        return chance(random, rate);
+    }
+
+    /**
+     * 지정한 난수 생성기로 확률(rate)에 따라 true 또는 false를 반환합니다.
+     *
+     * @param rng  사용할 난수 생성기
+     * @param rate 0.0 ~ 1.0 사이의 확률 값
+     * @return 랜덤 결과 (true: 성공, false: 실패)
+     */
+    public static boolean chance(RandomGenerator rng, double rate) {
+        return rng.nextDouble() < rate;
     }
 
     /**
@@ -127,7 +167,19 @@ public class Utils {
      * @return 랜덤 정수
      */
     public static int range(int min, int max) {
-        return random.nextInt(max - min + 1) + min;
+        return range(random, min, max);
+    }
+
+    /**
+     * 지정한 난수 생성기로 최소~최대 범위의 정수 중 랜덤 값을 반환합니다.
+     *
+     * @param rng 사용할 난수 생성기
+     * @param min 최소값
+     * @param max 최대값
+     * @return 랜덤 정수
+     */
+    public static int range(RandomGenerator rng, int min, int max) {
+        return rng.nextInt(max - min + 1) + min;
     }
 
     /**
@@ -155,7 +207,18 @@ public class Utils {
      * @return Emotion 열거형을 키로 하는 변화량 맵
      */
     public static Map<Emotion, Integer> parseEmotionChanges(String data) {
-        Map<Emotion, Integer> map = new EnumMap<>(Emotion.class);
+        return rollEmotionChanges(parseEmotionRanges(data));
+    }
+
+    /**
+     * "JOY:+2~+5|SAD:-3" 형식의 문자열을 파싱하여 감정별 [min, max] 범위 맵으로 반환합니다.
+     * 로드 시 한 번만 호출하고, 실제 변화량은 {@link #rollEmotionChanges(Map)}로 뽑습니다.
+     *
+     * @param data 감정 변화 데이터를 담은 문자열
+     * @return Emotion 열거형을 키로 하는 [min, max] 범위 맵
+     */
+    public static EnumMap<Emotion, int[]> parseEmotionRanges(String data) {
+        EnumMap<Emotion, int[]> map = new EnumMap<>(Emotion.class);
         if (data == null || data.isBlank()) return map;
 
         String[] tokens = data.split("\\|");
@@ -165,8 +228,7 @@ public class Utils {
 
             try {
                 Emotion emo = Emotion.valueOf(parts[0].trim());
-                int[] range = parseRange(parts[1]);
-                map.put(emo, range(range[0], range[1]));
+                map.put(emo, parseRange(parts[1]));
             } catch (Exception e) {
                 ExceptionHandler.handle(BeanException.beanAction("감정 파싱 실패: " + token));
             }
@@ -174,6 +236,32 @@ public class Utils {
         return map;
     }
 
+    /**
+     * 감정별 [min, max] 범위에서 실제 변화량을 하나씩 뽑습니다.
+     *
+     * @param ranges 미리 파싱된 감정 변화 범위
+     * @return Emotion 열거형을 키로 하는 변화량 맵
+     */
+    public static Map<Emotion, Integer> rollEmotionChanges(Map<Emotion, int[]> ranges) {
+        return rollEmotionChanges(random, ranges);
+    }
+
+    /**
+     * 지정한 난수 생성기로 감정별 [min, max] 범위에서 실제 변화량을 하나씩 뽑습니다.
+     *
+     * @param rng    사용할 난수 생성기
+     * @param ranges 미리 파싱된 감정 변화 범위
+     * @return Emotion 열거형을 키로 하는 변화량 맵
+     */
+    public static Map<Emotion, Integer> rollEmotionChanges(RandomGenerator rng, Map<Emotion, int[]> ranges) {
+        Map<Emotion, Integer> map = new EnumMap<>(Emotion.class);
+        for (Map.Entry<Emotion, int[]> entry : ranges.entrySet()) {
+            int[] range = entry.getValue();
+            map.put(entry.getKey(), range(rng, range[0], range[1]));
+        }
+        return map;
+    }
+
     // ==============================
     // 문자열 치환 유틸
     // ==============================